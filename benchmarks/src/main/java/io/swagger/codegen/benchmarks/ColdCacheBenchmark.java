@@ -0,0 +1,56 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.languages.GenerationContext;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Map;
+
+/**
+ * Counterpart of {@link NamingBenchmark} and {@link ModelBenchmark} on an empty name cache and generation context,
+ * as for the first model of a generation: the generator of a trial otherwise serves every invocation but the
+ * first from its caches. Compare the scores with the ones of the benchmarks of the same name.
+ */
+public class ColdCacheBenchmark extends GeneratorBenchmark {
+
+    private Map<String, Schema> schemas;
+    private Schema stringProperty;
+
+    @Setup
+    public void createSchemas() {
+        codegen.preprocessOpenAPI(Specs.openAPI());
+        schemas = codegen.getGenerationContext().getSchemas();
+        stringProperty = new StringSchema().minLength(1).maxLength(64);
+    }
+
+    // outside of the measured time
+    @Setup(Level.Invocation)
+    public void clearCaches() {
+        codegen.getNameCache().clear();
+        codegen.setGenerationContext(new GenerationContext(schemas));
+    }
+
+    @Benchmark
+    public String getterAndSetterCapitalize() {
+        return codegen.getterAndSetterCapitalize("display_name");
+    }
+
+    @Benchmark
+    public Object fromPropertyString() {
+        return codegen.fromProperty("display_name", stringProperty);
+    }
+
+    @Benchmark
+    public CodegenModel fromModelFlat() {
+        return codegen.fromModel("Product", schemas.get("Product"), schemas);
+    }
+
+    @Benchmark
+    public CodegenModel fromModelComposed() {
+        return codegen.fromModel("Cat", schemas.get("Cat"), schemas);
+    }
+}
@@ -0,0 +1,56 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.languages.DefaultCodegenConfig;
+import io.swagger.codegen.languages.html.StaticHtml2Codegen;
+import io.swagger.codegen.languages.java.JavaClientCodegen;
+import io.swagger.codegen.languages.kotlin.KotlinClientCodegen;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base of the benchmarks, run for each of the generators: a generator configured the way a generation run
+ * configures it, before reading the specification.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class GeneratorBenchmark {
+
+    @Param({"java", "kotlin", "html2"})
+    public String generator;
+
+    protected DefaultCodegenConfig codegen;
+
+    @Setup
+    public void createGenerator() {
+        codegen = newGenerator(generator);
+        codegen.setOutputDir("target/benchmarks/" + generator);
+        codegen.processOpts();
+    }
+
+    static DefaultCodegenConfig newGenerator(String name) {
+        switch (name) {
+            case "java":
+                return new JavaClientCodegen();
+            case "kotlin":
+                return new KotlinClientCodegen();
+            case "html2":
+                return new StaticHtml2Codegen();
+            default:
+                throw new IllegalArgumentException("Unknown generator " + name);
+        }
+    }
+}
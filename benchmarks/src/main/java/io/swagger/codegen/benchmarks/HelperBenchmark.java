@@ -0,0 +1,48 @@
+package io.swagger.codegen.benchmarks;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.CodegenModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Rendering of a model with the helpers the generator registers. The template is inline, like a model template
+ * reduced to the helper calls, so that the benchmark measures the helpers rather than the template loading.
+ */
+public class HelperBenchmark extends GeneratorBenchmark {
+
+    private static final String TEMPLATE = "{{#models}}{{#model}}"
+            + "{{classname}}{{#is this 'enum'}} enum{{/is}}{{#has this 'children'}} parent{{/has}}\n"
+            + "{{#vars}}"
+            + "{{name}}:{{datatype}}"
+            + "{{#is this 'enum'}} enum{{/is}}{{#isNot this 'container'}} simple{{/isNot}}"
+            + "{{#is this 'required'}} required{{/is}}{{#hasNot this 'more'}} last{{/hasNot}}"
+            + "{{#is this 'list-container'}}{{#baseItems this}} items:{{datatype}}{{/baseItems}}{{/is}}"
+            + " {{braces 'left'}}{{defaultValue}}{{braces 'right'}}\n"
+            + "{{/vars}}"
+            + "{{/model}}{{/models}}";
+
+    private Template template;
+    private Object context;
+
+    @Setup
+    public void compileTemplate() throws IOException {
+        final Handlebars handlebars = new Handlebars();
+        codegen.addHandlebarHelpers(handlebars);
+        template = handlebars.compileInline(TEMPLATE);
+
+        codegen.preprocessOpenAPI(Specs.openAPI());
+        final CodegenModel model = codegen.fromModel("Product", Specs.flatSchema(), codegen.getGenerationContext().getSchemas());
+        context = Collections.singletonMap("models",
+                Collections.singletonList(Collections.singletonMap("model", model)));
+    }
+
+    @Benchmark
+    public String render() throws IOException {
+        return template.apply(context);
+    }
+}
@@ -0,0 +1,50 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.languages.SyntheticSpecBuilder;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of all the models of a synthetic specification, see {@link SyntheticSpecBuilder}. Each iteration is one
+ * run on a new specification.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LargeSpecBenchmark extends GeneratorBenchmark {
+
+    @Param({"1000", "10000"})
+    public int schemas;
+
+    private Map<String, Schema> components;
+
+    @Setup(Level.Iteration)
+    public void createSpec() {
+        final OpenAPI openAPI = new SyntheticSpecBuilder()
+                .schemas(schemas)
+                .allOfDepth(3)
+                .enumSize(10)
+                .build();
+        codegen.preprocessOpenAPI(openAPI);
+        components = openAPI.getComponents().getSchemas();
+    }
+
+    @Benchmark
+    public Map<String, CodegenModel> fromModels() {
+        return codegen.fromModels(components);
+    }
+}
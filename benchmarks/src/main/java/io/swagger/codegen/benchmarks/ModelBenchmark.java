@@ -0,0 +1,85 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversion of the schemas into models and properties, with the name cache and generation context filled by the
+ * previous invocations. {@link ColdCacheBenchmark} measures the conversions on empty ones.
+ */
+public class ModelBenchmark extends GeneratorBenchmark {
+
+    private Map<String, Schema> schemas;
+    private Schema stringProperty;
+    private Schema enumProperty;
+    private Schema arrayProperty;
+    private Schema mapProperty;
+
+    @Setup
+    public void createSchemas() {
+        codegen.preprocessOpenAPI(Specs.openAPI());
+        schemas = codegen.getGenerationContext().getSchemas();
+        stringProperty = new StringSchema().minLength(1).maxLength(64);
+        enumProperty = Specs.enumSchema(20).getProperties().get("status_0");
+        arrayProperty = new ArraySchema().items(new IntegerSchema().format("int64"));
+        mapProperty = new MapSchema().additionalProperties(new Schema().$ref(Specs.REF_PREFIX + "Category"));
+    }
+
+    @Benchmark
+    public Object fromPropertyString() {
+        return codegen.fromProperty("display_name", stringProperty);
+    }
+
+    @Benchmark
+    public Object fromPropertyEnum() {
+        return codegen.fromProperty("status", enumProperty);
+    }
+
+    @Benchmark
+    public Object fromPropertyContainer() {
+        return new Object[]{
+                codegen.fromProperty("ids", arrayProperty),
+                codegen.fromProperty("categories", mapProperty)
+        };
+    }
+
+    @Benchmark
+    public CodegenModel fromModelFlat() {
+        return codegen.fromModel("Product", schemas.get("Product"), schemas);
+    }
+
+    @Benchmark
+    public CodegenModel fromModelComposed() {
+        return codegen.fromModel("Cat", schemas.get("Cat"), schemas);
+    }
+
+    @Benchmark
+    public CodegenModel fromModelEnums() {
+        return codegen.fromModel("Statuses", schemas.get("Statuses"), schemas);
+    }
+
+    @Benchmark
+    public Map<String, Object> postProcessModelsEnum() {
+        // converted in the benchmark: the post processing changes the model
+        final CodegenModel model = codegen.fromModel("Statuses", schemas.get("Statuses"), schemas);
+        final Map<String, Object> modelMap = new HashMap<>();
+        modelMap.put("model", model);
+        final List<Object> models = new ArrayList<>();
+        models.add(modelMap);
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("models", models);
+        objs.put("imports", new ArrayList<>());
+        return codegen.postProcessModelsEnum(objs);
+    }
+}
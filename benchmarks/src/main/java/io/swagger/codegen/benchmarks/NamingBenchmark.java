@@ -0,0 +1,44 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.languages.DefaultCodegenConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Name conversions, called several times for each model, property, operation and parameter. The conversions through
+ * the name cache of the generator are measured on a warm cache; see {@link ColdCacheBenchmark} for the cold one.
+ */
+public class NamingBenchmark extends GeneratorBenchmark {
+
+    private static final String[] NAMES = {
+            "pet_store", "PetStore", "petStore", "pet-store-v2", "display_name", "X-Request-Id",
+            "http_response_code", "_links", "some.dotted.name", "$special[name]", "user name with spaces"
+    };
+
+    @Benchmark
+    public void camelize(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegenConfig.camelize(name));
+            blackhole.consume(DefaultCodegenConfig.camelize(name, true));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegenConfig.underscore(name));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(codegen.sanitizeName(name));
+        }
+    }
+
+    @Benchmark
+    public String getterAndSetterCapitalize() {
+        return codegen.getterAndSetterCapitalize("display_name");
+    }
+}
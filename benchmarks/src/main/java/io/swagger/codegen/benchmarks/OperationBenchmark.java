@@ -0,0 +1,33 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Map;
+
+/**
+ * Conversion of an operation with parameters of each location, a request body and responses.
+ */
+public class OperationBenchmark extends GeneratorBenchmark {
+
+    private OpenAPI openAPI;
+    private Map<String, Schema> schemas;
+    private Operation operation;
+
+    @Setup
+    public void createOperation() {
+        openAPI = Specs.openAPI();
+        codegen.preprocessOpenAPI(openAPI);
+        schemas = openAPI.getComponents().getSchemas();
+        operation = Specs.operation();
+    }
+
+    @Benchmark
+    public CodegenOperation fromOperation() {
+        return codegen.fromOperation("/categories/{categoryId}/products", "put", operation, schemas, openAPI);
+    }
+}
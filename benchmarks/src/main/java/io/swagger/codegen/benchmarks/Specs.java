@@ -0,0 +1,149 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Schemas and operations the benchmarks convert, built in code so that the benchmarks don't measure the parser.
+ */
+public final class Specs {
+
+    public static final String REF_PREFIX = "#/components/schemas/";
+
+    private Specs() {
+    }
+
+    /**
+     * @return a model with properties of the common types
+     */
+    public static Schema flatSchema() {
+        return new ObjectSchema()
+                .addProperties("id", new IntegerSchema().format("int64"))
+                .addProperties("name", new StringSchema())
+                .addProperties("display_name", new StringSchema())
+                .addProperties("price", new NumberSchema())
+                .addProperties("available", new BooleanSchema())
+                .addProperties("created_at", new DateTimeSchema())
+                .addProperties("tags", new ArraySchema().items(new StringSchema()))
+                .addProperties("attributes", new MapSchema().additionalProperties(new StringSchema()))
+                .addProperties("category", new Schema().$ref(REF_PREFIX + "Category"))
+                .addRequiredItem("id")
+                .addRequiredItem("name");
+    }
+
+    /**
+     * @param values number of values of each enum
+     * @return a model with enum properties, one of them an array of enums
+     */
+    public static Schema enumSchema(int values) {
+        final ObjectSchema schema = new ObjectSchema();
+        for (int property = 0; property < 5; property++) {
+            final StringSchema enumSchema = new StringSchema();
+            for (int value = 0; value < values; value++) {
+                enumSchema.addEnumItem("value-" + property + "-" + value);
+            }
+            schema.addProperties("status_" + property, enumSchema);
+        }
+        final IntegerSchema codes = new IntegerSchema();
+        for (int value = 0; value < values; value++) {
+            codes.addEnumItem(value * 100);
+        }
+        schema.addProperties("code", codes);
+        schema.addProperties("statuses", new ArraySchema().items(schema.getProperties().get("status_0")));
+        return schema;
+    }
+
+    /**
+     * @return the schemas of the components: a parent with a discriminator, a composed child, and the models
+     * they reference
+     */
+    public static Map<String, Schema> schemas() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Category", new ObjectSchema()
+                .addProperties("id", new IntegerSchema().format("int64"))
+                .addProperties("name", new StringSchema()));
+        schemas.put("Product", flatSchema());
+        schemas.put("Statuses", enumSchema(20));
+        final Schema pet = new ObjectSchema()
+                .addProperties("petType", new StringSchema())
+                .addProperties("name", new StringSchema())
+                .addRequiredItem("petType");
+        pet.setDiscriminator(new Discriminator().propertyName("petType"));
+        schemas.put("Pet", pet);
+        schemas.put("Named", new ObjectSchema().addProperties("nickname", new StringSchema()));
+        schemas.put("Cat", composedSchema());
+        return schemas;
+    }
+
+    /**
+     * @return a model extending Pet and implementing Named, with properties of its own
+     */
+    public static ComposedSchema composedSchema() {
+        final ComposedSchema schema = new ComposedSchema();
+        schema.addAllOfItem(new Schema().$ref(REF_PREFIX + "Pet"));
+        schema.addAllOfItem(new Schema().$ref(REF_PREFIX + "Named"));
+        schema.addAllOfItem(new ObjectSchema()
+                .addProperties("indoor", new BooleanSchema())
+                .addProperties("lives", new IntegerSchema())
+                .addProperties("toys", new ArraySchema().items(new Schema().$ref(REF_PREFIX + "Product"))));
+        return schema;
+    }
+
+    /**
+     * @return an operation with path, query and header parameters, a request body and responses
+     */
+    public static Operation operation() {
+        final Content content = new Content()
+                .addMediaType("application/json", new MediaType().schema(new Schema().$ref(REF_PREFIX + "Product")));
+        final Content listContent = new Content()
+                .addMediaType("application/json", new MediaType().schema(
+                        new ArraySchema().items(new Schema().$ref(REF_PREFIX + "Product"))));
+        return new Operation()
+                .operationId("updateProducts")
+                .summary("Update the products of a category")
+                .addTagsItem("product")
+                .addParametersItem(new PathParameter().name("categoryId").schema(new IntegerSchema().format("int64")))
+                .addParametersItem(new QueryParameter().name("dry_run").schema(new BooleanSchema()))
+                .addParametersItem(new QueryParameter().name("status").schema(new StringSchema()._enum(
+                        Arrays.asList("available", "pending", "sold"))))
+                .addParametersItem(new HeaderParameter().name("X-Request-Id").schema(new StringSchema()))
+                .requestBody(new RequestBody().required(true).content(content))
+                .responses(new ApiResponses()
+                        .addApiResponse("200", new ApiResponse().description("updated products").content(listContent))
+                        .addApiResponse("404", new ApiResponse().description("category not found")));
+    }
+
+    /**
+     * @return a specification with the schemas
+     */
+    public static OpenAPI openAPI() {
+        return new OpenAPI()
+                .info(new Info().title("Benchmark API").version("1.0.0"))
+                .components(new Components().schemas(schemas()));
+    }
+}
@@ -0,0 +1,75 @@
+package io.swagger.codegen.handlebars;
+
+import com.github.jknack.handlebars.io.URLTemplateLoader;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the templates and partials of a generator the way the generator driver looks them up: the template of the
+ * library first, then the template of the generator, from the template folder when it is on the file system, otherwise
+ * from the classpath.
+ */
+public class CodegenTemplateLoader extends URLTemplateLoader {
+
+    public static final String TEMPLATE_SUFFIX = ".mustache";
+
+    private final List<String> folders = new ArrayList<>();
+    private final ClassLoader classLoader;
+
+    /**
+     * @param templateDir template folder of the generator, possibly a custom one
+     * @param embeddedTemplateDir template folder of the generator in the classpath
+     * @param library library of the generator, may be null
+     * @param classLoader class loader of the embedded templates
+     */
+    public CodegenTemplateLoader(String templateDir, String embeddedTemplateDir, String library, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        if (StringUtils.isNotBlank(library)) {
+            addFolder(templateDir, "libraries/" + library);
+            addFolder(embeddedTemplateDir, "libraries/" + library);
+        }
+        addFolder(templateDir, null);
+        addFolder(embeddedTemplateDir, null);
+        setSuffix(TEMPLATE_SUFFIX);
+    }
+
+    private void addFolder(String folder, String subFolder) {
+        if (StringUtils.isBlank(folder)) {
+            return;
+        }
+        folder = StringUtils.removeEnd(folder.replace('\\', '/'), "/");
+        folder = subFolder == null ? folder : folder + "/" + subFolder;
+        if (!folders.contains(folder)) {
+            folders.add(folder);
+        }
+    }
+
+    @Override
+    protected URL getResource(String location) throws IOException {
+        return find(StringUtils.removeStart(location, "/"));
+    }
+
+    /**
+     * @param file template file, relative to the template folders, e.g. model.mustache
+     * @return the first template found with the name, null if there is none
+     * @throws IOException if the location of the template can't be read
+     */
+    public URL find(String file) throws IOException {
+        for (String folder : folders) {
+            final File template = new File(folder, file);
+            if (template.isFile()) {
+                return template.toURI().toURL();
+            }
+            final URL resource = classLoader.getResource(folder + "/" + file);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
+}
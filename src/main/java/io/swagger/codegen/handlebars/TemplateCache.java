@@ -0,0 +1,134 @@
+package io.swagger.codegen.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
+import io.swagger.codegen.languages.DefaultCodegenConfig;
+import io.swagger.codegen.languages.IncrementalGeneration;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled templates shared by all the generations of the process, so that a generation whose templates were
+ * already compiled doesn't parse them again.
+ *
+ * Templates are kept by generator, template folder, library and template version. Each of these gets one
+ * {@link Handlebars}, with the helpers of {@link DefaultCodegenConfig#addHandlebarHelpers(Handlebars)} registered
+ * once; the helpers must therefore not depend on the state of a generator. A template of the class path is read
+ * once. A template file, e.g. of a custom folder, is read again when its modification time or size changes, and
+ * compiled again when the hash of its content changes.
+ */
+public class TemplateCache {
+
+    private static final TemplateCache INSTANCE = new TemplateCache();
+
+    private final Map<String, TemplateSet> templateSets = new ConcurrentHashMap<>();
+
+    /**
+     * @return the cache of the process
+     */
+    public static TemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param config generator
+     * @param templateFile template file, relative to the template folders, e.g. model.mustache
+     * @return the compiled template
+     * @throws IOException if the template can't be found or read
+     */
+    public Template getTemplate(DefaultCodegenConfig config, String templateFile) throws IOException {
+        final TemplateSet templateSet = templateSets.computeIfAbsent(key(config), key -> new TemplateSet(config));
+        final String name = StringUtils.removeEnd(templateFile.replace('\\', '/'), CodegenTemplateLoader.TEMPLATE_SUFFIX);
+        final URL resource = templateSet.loader.find(name + CodegenTemplateLoader.TEMPLATE_SUFFIX);
+        if (resource == null) {
+            throw new FileNotFoundException("Template " + templateFile + " not found in " + config.templateDir());
+        }
+        final CompiledTemplate compiled = templateSet.templates.get(name);
+        final String location = resource.toExternalForm();
+        final File file = FileUtils.toFile(resource);
+        if (compiled != null && compiled.location.equals(location)) {
+            // the entries of the jars don't change while the process runs, the files are read again once changed
+            if (file == null || (compiled.lastModified == file.lastModified() && compiled.length == file.length())) {
+                return compiled.template;
+            }
+        }
+        final String hash;
+        try (InputStream inputStream = resource.openStream()) {
+            hash = IncrementalGeneration.hash(IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+        final long lastModified = file != null ? file.lastModified() : 0;
+        final long length = file != null ? file.length() : 0;
+        if (compiled != null && compiled.location.equals(location) && compiled.hash.equals(hash)) {
+            // touched but unchanged
+            templateSet.templates.put(name, new CompiledTemplate(location, lastModified, length, hash, compiled.template));
+            return compiled.template;
+        }
+        final Template template = templateSet.handlebars.compile(name);
+        templateSet.templates.put(name, new CompiledTemplate(location, lastModified, length, hash, template));
+        return template;
+    }
+
+    /**
+     * @return number of compiled templates
+     */
+    public int size() {
+        int size = 0;
+        for (TemplateSet templateSet : templateSets.values()) {
+            size += templateSet.templates.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        templateSets.clear();
+    }
+
+    private static String key(DefaultCodegenConfig config) {
+        return config.getClass().getName() + '\n' + config.templateDir() + '\n' + config.embeddedTemplateDir() + '\n'
+                + config.getLibrary() + '\n' + config.getTemplateVersion();
+    }
+
+    private static class TemplateSet {
+
+        private final CodegenTemplateLoader loader;
+        private final Handlebars handlebars;
+        private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+        TemplateSet(DefaultCodegenConfig config) {
+            loader = new CodegenTemplateLoader(config.templateDir(), config.embeddedTemplateDir(), config.getLibrary(),
+                    config.getClass().getClassLoader());
+            // partials are shared by the templates, and parsed again when their file changes
+            handlebars = new Handlebars(loader).with(new ConcurrentMapTemplateCache().setReload(true));
+            handlebars.prettyPrint(true);
+            config.addHandlebarHelpers(handlebars);
+        }
+    }
+
+    private static class CompiledTemplate {
+
+        private final String location;
+        private final long lastModified;
+        private final long length;
+        private final String hash;
+        private final Template template;
+
+        CompiledTemplate(String location, long lastModified, long length, String hash, Template template) {
+            this.location = location;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.hash = hash;
+            this.template = template;
+        }
+    }
+}
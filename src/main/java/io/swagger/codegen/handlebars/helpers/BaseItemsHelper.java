@@ -4,8 +4,8 @@ import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 
-import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.CodegenProperty;
+import io.swagger.codegen.languages.CodegenFlag;
 
 import java.io.IOException;
 
@@ -36,8 +36,8 @@ public class BaseItemsHelper implements Helper<CodegenProperty> {
     public static CodegenProperty getBaseItemsProperty(CodegenProperty property) {
         CodegenProperty currentProperty = property;
         while (currentProperty != null
-                && (getBooleanValue(currentProperty, CodegenConstants.IS_MAP_CONTAINER_EXT_NAME)
-                || getBooleanValue(currentProperty, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME))) {
+                && (getBooleanValue(currentProperty, CodegenFlag.IS_MAP_CONTAINER)
+                || getBooleanValue(currentProperty, CodegenFlag.IS_LIST_CONTAINER))) {
             currentProperty = currentProperty.items;
         }
         return currentProperty;
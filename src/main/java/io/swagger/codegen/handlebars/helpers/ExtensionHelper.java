@@ -4,12 +4,18 @@ import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 import io.swagger.codegen.VendorExtendable;
+import io.swagger.codegen.languages.CodegenFlag;
+import io.swagger.codegen.languages.FlagMap;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ExtensionHelper implements Helper<VendorExtendable> {
 
+    // extension tested for each parameter of the helper, e.g. "enum" -> "x-is-enum"
+    private final Map<String, String> extensions = new ConcurrentHashMap<>();
+
     public abstract String getPreffix();
 
     @Override
@@ -21,7 +27,7 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return buffer;
         }
         final String param = options.param(0);
-        String extension = getPreffix() + param;
+        String extension = param == null ? getPreffix() + param : extensions.computeIfAbsent(param, key -> getPreffix() + key);
 
         if (!getBooleanValue(vendor, extension)) {
             buffer.append(options.inverse());
@@ -36,9 +42,26 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return false;
         }
         Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
+        if (vendorExtensions instanceof FlagMap) {
+            final CodegenFlag flag = CodegenFlag.forExtension(extensionKey);
+            if (flag != null) {
+                return ((FlagMap) vendorExtensions).isSet(flag);
+            }
+        }
         if (vendorExtensions.get(extensionKey) == null) {
             return false;
         }
         return Boolean.parseBoolean(vendorExtensions.get(extensionKey).toString());
     }
+
+    public static boolean getBooleanValue(VendorExtendable vendorExtendable, CodegenFlag flag) {
+        if (vendorExtendable == null) {
+            return false;
+        }
+        Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
+        if (vendorExtensions instanceof FlagMap) {
+            return ((FlagMap) vendorExtensions).isSet(flag);
+        }
+        return getBooleanValue(vendorExtendable, flag.getExtension());
+    }
 }
@@ -1,6 +1,7 @@
 package io.swagger.codegen.languages;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -8,7 +9,49 @@ import java.util.Set;
 
 public class CodegenHelper {
 
+    // tables shared by all the generators, each generator gets a copy on its first change
+    private static final Set<String> DEFAULT_INCLUDES = Collections.unmodifiableSet(createDefaultIncludes());
+    private static final Map<String, String> TYPE_MAPPINGS = Collections.unmodifiableMap(createTypeMappings());
+    private static final Map<String, String> IMPORT_MAPPINGS = Collections.unmodifiableMap(createImportMappings());
+    private static final Map<String, String> SPECIAL_CHARACTER_MAPPINGS;
+
+    static {
+        final Map<String, String> specialCharReplacements = new HashMap<>();
+        initalizeSpecialCharacterMapping(specialCharReplacements);
+        SPECIAL_CHARACTER_MAPPINGS = Collections.unmodifiableMap(specialCharReplacements);
+    }
+
     static Set<String> getDefaultIncludes() {
+        return new CopyOnWriteSet<>(DEFAULT_INCLUDES);
+    }
+
+    static Map<String, String> getTypeMappings() {
+        return new CopyOnWriteMap<>(TYPE_MAPPINGS);
+    }
+
+    /**
+     * @return the shared type mappings, read-only, e.g. to build the shared mappings of a language from them
+     */
+    public static Map<String, String> getSharedTypeMappings() {
+        return TYPE_MAPPINGS;
+    }
+
+    static Map<String, String> getImportMappings() {
+        return new CopyOnWriteMap<>(IMPORT_MAPPINGS);
+    }
+
+    static Map<String, String> getSpecialCharacterMappings() {
+        return new CopyOnWriteMap<>(SPECIAL_CHARACTER_MAPPINGS);
+    }
+
+    /**
+     * @return the shared special character mappings, read-only, e.g. to build the shared mappings of a language
+     */
+    public static Map<String, String> getSharedSpecialCharacterMappings() {
+        return SPECIAL_CHARACTER_MAPPINGS;
+    }
+
+    private static Set<String> createDefaultIncludes() {
         return new HashSet<>(
                 Arrays.asList("double",
                         "int",
@@ -27,7 +70,7 @@ public class CodegenHelper {
         );
     }
 
-    static Map<String, String> getTypeMappings() {
+    private static Map<String, String> createTypeMappings() {
         final Map<String, String> typeMapping = new HashMap<>();
         typeMapping.put("array", "List");
         typeMapping.put("map", "Map");
@@ -52,7 +95,7 @@ public class CodegenHelper {
         return typeMapping;
     }
 
-    static Map<String, String> getImportMappings() {
+    private static Map<String, String> createImportMappings() {
         final Map<String, String> importMapping = new HashMap<>();
         importMapping.put("BigDecimal", "java.math.BigDecimal");
         importMapping.put("UUID", "java.util.UUID");
@@ -0,0 +1,138 @@
+package io.swagger.codegen.languages;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map reading a table shared by all the generators of a language until it is first changed, when it gets its own
+ * copy of the table. Behaves like a {@link HashMap} filled with the shared table, iteration order included.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class CopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> shared;
+    private HashMap<K, V> own;
+
+    /**
+     * @param shared table never changed once shared, preferably a HashMap filled by put in the order of the entries
+     */
+    public CopyOnWriteMap(Map<K, V> shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * @return whether the map still reads the shared table
+     */
+    public boolean isShared() {
+        return own == null;
+    }
+
+    private Map<K, V> current() {
+        return own != null ? own : shared;
+    }
+
+    private HashMap<K, V> own() {
+        if (own == null) {
+            // filled entry by entry to get the capacity, thus the iteration order, of the shared table
+            final HashMap<K, V> copy = new HashMap<>();
+            for (Entry<K, V> entry : shared.entrySet()) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+            own = copy;
+        }
+        return own;
+    }
+
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return current().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return current().containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return current().get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return own().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (own == null && !shared.containsKey(key)) {
+            return null;
+        }
+        return own().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (own == null) {
+            own = new HashMap<>();
+        } else {
+            own.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                if (own != null) {
+                    return own.entrySet().iterator();
+                }
+                // iterates the shared table, changes go to an own copy
+                final Iterator<Entry<K, V>> iterator = shared.entrySet().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private K last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        final Entry<K, V> entry = iterator.next();
+                        last = entry.getKey();
+                        return new SimpleEntry<K, V>(entry) {
+                            @Override
+                            public V setValue(V value) {
+                                super.setValue(value);
+                                return own().put(entry.getKey(), value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        own().remove(last);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return current().size();
+            }
+        };
+    }
+}
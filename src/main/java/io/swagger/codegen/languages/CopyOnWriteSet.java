@@ -0,0 +1,111 @@
+package io.swagger.codegen.languages;
+
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set reading a table shared by all the generators of a language until it is first changed, when it gets its own
+ * copy of the table. Behaves like a {@link HashSet} filled with the shared table, iteration order included.
+ *
+ * @param <E> type of the elements
+ */
+public class CopyOnWriteSet<E> extends AbstractSet<E> {
+
+    private final Set<E> shared;
+    private HashSet<E> own;
+
+    /**
+     * @param shared table never changed once shared, preferably a HashSet filled by add in the order of the elements
+     */
+    public CopyOnWriteSet(Set<E> shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * @return whether the set still reads the shared table
+     */
+    public boolean isShared() {
+        return own == null;
+    }
+
+    private Set<E> current() {
+        return own != null ? own : shared;
+    }
+
+    private HashSet<E> own() {
+        if (own == null) {
+            // filled element by element to get the capacity, thus the iteration order, of the shared table
+            final HashSet<E> copy = new HashSet<>();
+            for (E element : shared) {
+                copy.add(element);
+            }
+            own = copy;
+        }
+        return own;
+    }
+
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return current().contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (own == null && shared.contains(e)) {
+            return false;
+        }
+        return own().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (own == null && !shared.contains(o)) {
+            return false;
+        }
+        return own().remove(o);
+    }
+
+    @Override
+    public void clear() {
+        if (own == null) {
+            own = new HashSet<>();
+        } else {
+            own.clear();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        if (own != null) {
+            return own.iterator();
+        }
+        // iterates the shared table, removals go to an own copy
+        final Iterator<E> iterator = shared.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                own().remove(last);
+            }
+        };
+    }
+}
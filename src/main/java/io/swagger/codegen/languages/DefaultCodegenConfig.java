@@ -2,6 +2,7 @@ package io.swagger.codegen.languages;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenArgument;
 import io.swagger.codegen.CodegenConfig;
@@ -15,6 +16,7 @@ import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.CodegenResponse;
 import io.swagger.codegen.CodegenSecurity;
 import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.handlebars.TemplateCache;
 import io.swagger.codegen.handlebars.helpers.BaseItemsHelper;
 import io.swagger.codegen.handlebars.helpers.BracesHelper;
 import io.swagger.codegen.handlebars.helpers.HasHelper;
@@ -26,6 +28,7 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BinarySchema;
@@ -57,6 +60,7 @@ import io.swagger.v3.oas.models.security.OAuthFlow;
 import io.swagger.v3.oas.models.security.OAuthFlows;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
@@ -67,6 +71,9 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -76,12 +83,22 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.swagger.codegen.CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME;
 import static io.swagger.codegen.CodegenConstants.HAS_OPTIONAL_EXT_NAME;
@@ -92,15 +109,29 @@ import static io.swagger.codegen.handlebars.helpers.ExtensionHelper.getBooleanVa
 import static io.swagger.codegen.languages.CodegenHelper.getDefaultIncludes;
 import static io.swagger.codegen.languages.CodegenHelper.getImportMappings;
 import static io.swagger.codegen.languages.CodegenHelper.getTypeMappings;
-import static io.swagger.codegen.languages.CodegenHelper.initalizeSpecialCharacterMapping;
+import static io.swagger.codegen.languages.CodegenHelper.getSpecialCharacterMappings;
 import static io.swagger.codegen.utils.ModelUtils.processCodegenModels;
 
-public abstract class DefaultCodegenConfig implements CodegenConfig {
+public abstract class DefaultCodegenConfig implements CodegenConfig, Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegenConfig.class);
 
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
     public static final String DEFAULT_TEMPLATE_VERSION = "v2";
+    public static final String NAME_CACHE_SIZE = "nameCacheSize";
+    public static final String PARALLEL_MODEL_CONVERSION = "parallelModelConversion";
+    public static final String PARALLEL_OPERATION_CONVERSION = "parallelOperationConversion";
+    public static final String DEFAULT_TAG = "default";
+    public static final String INCREMENTAL_GENERATION = "incrementalGeneration";
+    public static final String GENERATE_MODEL_JSON = "generateModelJson";
+    public static final String GENERATION_METRICS = "generationMetrics";
+    public static final String SKIP_UNCHANGED_FILES = "skipUnchangedFiles";
+
+    // additional properties set by the generator driver on each generation, not part of the configuration
+    static final Set<String> RUN_PROPERTIES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "generatedDate", "generatedYear", "generatorVersion", "generatorClass", "inputSpec")));
+
+    private static final Pattern UNICODE_NON_WORD_CHARACTER = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS);
 
     protected String inputSpec;
     protected String outputFolder = StringUtils.EMPTY;
@@ -127,9 +158,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected String templateVersion;
     protected String embeddedTemplateDir;
     protected String commonTemplateDir = "_common";
-    protected Map<String, Object> additionalProperties = new HashMap<String, Object>();
+    // additional properties and supporting files of the generator, copied by each run (see startRun)
+    private Map<String, Object> configuredProperties = new HashMap<String, Object>();
+    private List<SupportingFile> configuredSupportingFiles = new ArrayList<SupportingFile>();
+    // those of the run of the current thread, if any
+    protected Map<String, Object> additionalProperties = newAdditionalProperties();
     protected Map<String, Object> vendorExtensions = new HashMap<String, Object>();
-    protected List<SupportingFile> supportingFiles = new ArrayList<SupportingFile>();
+    protected List<SupportingFile> supportingFiles = newSupportingFiles();
     protected List<CliOption> cliOptions = new ArrayList<CliOption>();
     protected List<CodegenArgument> languageArguments;
     protected boolean skipOverwrite;
@@ -147,9 +182,36 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // How to encode special characters like $
     // They are translated to words like "Dollar" and prefixed with '
     // Then translated back during JSON encoding and decoding
-    protected Map<String, String> specialCharReplacements = new HashMap<String, String>();
-    // When a model is an alias for a simple type
-    protected Map<String, String> typeAliases = null;
+    protected Map<String, String> specialCharReplacements = getSpecialCharacterMappings();
+    // Schemas and type aliases of the current run, created on first model conversion unless set explicitly
+    protected volatile GenerationContext generationContext;
+    /**
+     * @deprecated use {@link #getTypeAliases()}: the aliases of the last context created or set, on any thread, kept
+     * for the generators reading them through this field
+     */
+    @Deprecated
+    protected volatile Map<String, String> typeAliases;
+    // runs started by startRun, on each thread
+    private ThreadLocal<GenerationContext> runs = new ThreadLocal<>();
+    protected boolean parallelModelConversion;
+    protected boolean parallelOperationConversion;
+    protected boolean incrementalGeneration;
+    // pretty printed schema of each model (modelJson), only for generators whose templates need it
+    protected boolean generateModelJson;
+    // number of models converted and rendered together, 0 to convert all the models before rendering; not an
+    // additional property, as only a driver rendering the batches of fromModels(Map, int, Consumer) can use it
+    protected int modelBatchSize;
+    // measures of the generation phases, written next to the generated files
+    protected boolean generationMetrics;
+    private GenerationMetrics metrics;
+    // leave the generated files whose content didn't change untouched
+    protected boolean skipUnchangedFiles;
+    // parsed arguments of each arguments resource, shared by all the generators
+    private static final Map<String, Optional<List<ArgumentDefinition>>> ARGUMENT_DEFINITIONS = new ConcurrentHashMap<>();
+    // lower cased reserved words of each list of words, shared by all the generators
+    private static final Map<List<String>, Set<String>> RESERVED_WORDS = new ConcurrentHashMap<>();
+    // memoized results of the name transforms (toVarName, toModelName...), cleared when naming options change
+    protected NameCache nameCache = new NameCache();
 
     protected String ignoreFilePathOverride;
 
@@ -158,6 +220,49 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     public void processOpts() {
+        // a new generation starts new measures, runs have their own
+        if (getRun() == null) {
+            synchronized (this) {
+                metrics = null;
+            }
+        }
+
+        if (additionalProperties.containsKey(NAME_CACHE_SIZE)) {
+            nameCache.setMaxSize(Integer.parseInt(additionalProperties.get(NAME_CACHE_SIZE).toString()));
+        }
+        // naming options may be changed below, drop anything computed with the previous configuration
+        nameCache.clear();
+
+        if (additionalProperties.containsKey(PARALLEL_MODEL_CONVERSION)) {
+            this.setParallelModelConversion(Boolean.valueOf(additionalProperties
+                    .get(PARALLEL_MODEL_CONVERSION).toString()));
+        }
+
+        if (additionalProperties.containsKey(PARALLEL_OPERATION_CONVERSION)) {
+            this.setParallelOperationConversion(Boolean.valueOf(additionalProperties
+                    .get(PARALLEL_OPERATION_CONVERSION).toString()));
+        }
+
+        if (additionalProperties.containsKey(INCREMENTAL_GENERATION)) {
+            this.setIncrementalGeneration(Boolean.valueOf(additionalProperties
+                    .get(INCREMENTAL_GENERATION).toString()));
+        }
+
+        if (additionalProperties.containsKey(GENERATE_MODEL_JSON)) {
+            this.setGenerateModelJson(Boolean.valueOf(additionalProperties
+                    .get(GENERATE_MODEL_JSON).toString()));
+        }
+
+        if (additionalProperties.containsKey(GENERATION_METRICS)) {
+            this.setGenerationMetrics(Boolean.valueOf(additionalProperties
+                    .get(GENERATION_METRICS).toString()));
+        }
+
+        if (additionalProperties.containsKey(SKIP_UNCHANGED_FILES)) {
+            this.setSkipUnchangedFiles(Boolean.valueOf(additionalProperties
+                    .get(SKIP_UNCHANGED_FILES).toString()));
+        }
+
         if (additionalProperties.containsKey(CodegenConstants.TEMPLATE_DIR)) {
             this.setTemplateDir((String) additionalProperties.get(CodegenConstants.TEMPLATE_DIR));
         }
@@ -251,7 +356,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return maps of models with better enum support
      */
     public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
-        processModelEnums(objs);
+        measure(GenerationMetrics.POST_PROCESS_MODELS_ENUM, null, () -> {
+            processModelEnums(objs);
+            return null;
+        });
         return objs;
     }
 
@@ -379,12 +487,39 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     public void postProcessParameter(CodegenParameter parameter){
     }
 
+    /**
+     * Start the generation context of the specification, indexing its schemas. When generators overriding this
+     * method don't call it, the context is created on the first model conversion.
+     */
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        final Map<String, Schema> schemas = openAPI != null && openAPI.getComponents() != null ? openAPI.getComponents().getSchemas() : null;
+        final GenerationContext run = getRun();
+        setGenerationContext(run != null ? run.withSchemas(schemas) : new GenerationContext(schemas));
+    }
+
+    /**
+     * Pre-process the specification with {@link #preprocessOpenAPI(OpenAPI)}, the override of the generator included,
+     * measured as the {@link GenerationMetrics#PREPROCESS_OPENAPI} phase.
+     *
+     * @param openAPI the specification
+     */
+    public void preprocess(OpenAPI openAPI) {
+        measure(GenerationMetrics.PREPROCESS_OPENAPI, null, () -> {
+            preprocessOpenAPI(openAPI);
+            return null;
+        });
     }
 
+    /**
+     * Write the generation metrics, if enabled, once all the files are generated.
+     */
     @Override
     public void processOpenAPI(OpenAPI openAPI) {
+        final GenerationMetrics generationMetrics = getGenerationMetrics();
+        if (generationMetrics != null) {
+            LOGGER.info("Wrote generation metrics to " + generationMetrics.write(outputFolder));
+        }
     }
 
     // override with any special text escaping logic
@@ -393,6 +528,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (input == null) {
             return input;
         }
+        final TextEscaper textEscaper = getTextEscaper();
+        if (textEscaper != null) {
+            final String escaped = textEscaper.escape(input);
+            if (escaped != null) {
+                return escaped;
+            }
+        }
 
         // remove \t, \n, \r
         // replace \ with \\
@@ -408,6 +550,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         .replace("\"", "\\\""));
     }
 
+    /**
+     * Single pass escaping giving the same result as escapeText, to be provided by generators whose
+     * escapeUnsafeCharacters it implements.
+     *
+     * @return the escaper, null to always escape through escapeUnsafeCharacters
+     */
+    protected TextEscaper getTextEscaper() {
+        return null;
+    }
+
     /**
      * override with any special text escaping logic to handle unsafe
      * characters so as to avoid code injection
@@ -597,10 +749,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     public void setModelNamePrefix(String modelNamePrefix){
         this.modelNamePrefix = modelNamePrefix;
+        nameCache.clear();
     }
 
     public void setModelNameSuffix(String modelNameSuffix){
         this.modelNameSuffix = modelNameSuffix;
+        nameCache.clear();
     }
 
     public void setApiPackage(String apiPackage) {
@@ -621,6 +775,448 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     public void setAllowUnicodeIdentifiers(Boolean allowUnicodeIdentifiers) {
         this.allowUnicodeIdentifiers = allowUnicodeIdentifiers;
+        nameCache.clear();
+    }
+
+    /**
+     * Cache of memoized name transforms, exposing hit/miss counters.
+     *
+     * @return the name cache of this generator
+     */
+    public NameCache getNameCache() {
+        return nameCache;
+    }
+
+    public boolean isParallelModelConversion() {
+        return parallelModelConversion;
+    }
+
+    public void setParallelModelConversion(boolean parallelModelConversion) {
+        this.parallelModelConversion = parallelModelConversion;
+    }
+
+    public boolean isGenerateModelJson() {
+        return generateModelJson;
+    }
+
+    public void setGenerateModelJson(boolean generateModelJson) {
+        this.generateModelJson = generateModelJson;
+    }
+
+    /**
+     * Batch size for the generator drivers converting the models through {@link #fromModels(Map, int, Consumer)}.
+     * The drivers converting all the models at once ignore it, so it isn't read from the additional properties.
+     *
+     * @return number of models converted and rendered together; 0 when all the models are converted before rendering
+     */
+    public int getModelBatchSize() {
+        return modelBatchSize;
+    }
+
+    public void setModelBatchSize(int modelBatchSize) {
+        this.modelBatchSize = modelBatchSize;
+    }
+
+    public boolean isGenerationMetrics() {
+        return generationMetrics;
+    }
+
+    public void setGenerationMetrics(boolean generationMetrics) {
+        this.generationMetrics = generationMetrics;
+    }
+
+    /**
+     * Measures of the current generation, started by {@link #processOpts()} (or {@link #startRun()}) and written to
+     * the output folder by {@link #processOpenAPI(OpenAPI)}. The conversions are measured here, the pre-processing by
+     * {@link #preprocess(OpenAPI)}; the phases run by the generator driver (post processing of the operations,
+     * rendering, writing) can be recorded with {@link GenerationMetrics#start(String, String)}.
+     *
+     * @return measures of the current run, null if generation metrics are disabled
+     */
+    public GenerationMetrics getGenerationMetrics() {
+        if (!generationMetrics) {
+            return null;
+        }
+        final GenerationContext run = getRun();
+        if (run != null) {
+            return run.getRunData(GENERATION_METRICS, GenerationMetrics::new);
+        }
+        synchronized (this) {
+            if (metrics == null) {
+                metrics = new GenerationMetrics();
+            }
+            return metrics;
+        }
+    }
+
+    /**
+     * @param phase name of the phase, see {@link GenerationMetrics}
+     * @param item name of the model or operation processed, null if none
+     * @param action the phase
+     * @param <T> type of the result
+     * @return result of the phase, measured when generation metrics are enabled
+     */
+    protected <T> T measure(String phase, String item, Supplier<T> action) {
+        final GenerationMetrics generationMetrics = getGenerationMetrics();
+        return generationMetrics == null ? action.get() : generationMetrics.time(phase, item, action);
+    }
+
+    // measures a phase and counts its result, once for nested phases
+    private <T> T measure(String phase, String item, Supplier<T> action, String counter, ToLongFunction<T> count) {
+        final GenerationMetrics generationMetrics = getGenerationMetrics();
+        return generationMetrics == null ? action.get() : generationMetrics.time(phase, item, action, counter, count);
+    }
+
+    private static long countProperties(CodegenModel model) {
+        return model.vars == null ? 0 : model.vars.size();
+    }
+
+    private static long countParameters(CodegenOperation operation) {
+        return operation.allParams == null ? 0 : operation.allParams.size();
+    }
+
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    /**
+     * Compare the spec with the manifest of the previous generation into the output folder, to find out which
+     * models and APIs must be generated again. The manifest gets updated by {@link IncrementalGeneration#complete()}.
+     *
+     * @param openAPI the spec being generated
+     * @return models and APIs to be generated, null if incremental generation is disabled
+     */
+    public IncrementalGeneration startIncrementalGeneration(OpenAPI openAPI) {
+        if (!incrementalGeneration) {
+            return null;
+        }
+        return new IncrementalGeneration(outputFolder, openAPI, getConfigurationFingerprint(), this::sanitizeTag);
+    }
+
+    /**
+     * Delete the model and API files, and their documentation, generated for the models and APIs of the previous
+     * generation no longer in the spec. Tests are left, as they are meant to be edited.
+     *
+     * @param generation the incremental generation
+     * @return the deleted files
+     */
+    public List<File> deleteRemovedFiles(IncrementalGeneration generation) {
+        final List<String> filenames = new ArrayList<>();
+        for (String model : generation.getRemovedModels()) {
+            for (String suffix : modelTemplateFiles().values()) {
+                filenames.add(modelFileFolder() + '/' + toModelFilename(model) + suffix);
+            }
+            for (String suffix : modelDocTemplateFiles().values()) {
+                filenames.add(modelDocFileFolder() + '/' + toModelDocFilename(model) + suffix);
+            }
+        }
+        for (String api : generation.getRemovedApis()) {
+            for (String templateName : apiTemplateFiles().keySet()) {
+                filenames.add(apiFilename(templateName, api));
+            }
+            for (String templateName : apiDocTemplateFiles().keySet()) {
+                filenames.add(apiDocFilename(templateName, api));
+            }
+        }
+        final List<File> deleted = new ArrayList<>();
+        for (String filename : filenames) {
+            final File file = new File(filename);
+            if (file.isFile() && file.delete()) {
+                LOGGER.info("Deleted " + file + ", no longer in the spec");
+                deleted.add(file);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Fingerprint of everything besides the spec affecting the generated files: generator, library, options and
+     * templates. Only the options declared by {@link #cliOptions()} count, the additional properties set by the
+     * driver on each generation (date, input spec...) and those written during a generation being left out.
+     * Embedded templates are identified by the version of this module, or by their content when the version is
+     * unknown (development build); files of a custom template folder by their content.
+     *
+     * @return configuration fingerprint
+     */
+    protected String getConfigurationFingerprint() {
+        final String version = DefaultCodegenConfig.class.getPackage().getImplementationVersion();
+        final StringBuilder builder = new StringBuilder();
+        builder.append(getClass().getName()).append('\n')
+                .append(library).append('\n')
+                .append(templateVersion).append('\n')
+                .append(version).append('\n');
+        final Set<String> options = new TreeSet<>();
+        for (CliOption option : cliOptions) {
+            options.add(option.getOpt());
+        }
+        options.removeAll(RUN_PROPERTIES);
+        for (String option : options) {
+            if (additionalProperties.containsKey(option)) {
+                builder.append(option).append('=').append(additionalProperties.get(option)).append('\n');
+            }
+        }
+        if (templateDir != null && new File(templateDir).isDirectory()) {
+            appendTemplateHashes(builder, new File(templateDir));
+        }
+        if (version == null && embeddedTemplateDir() != null) {
+            final URL embedded = getClass().getClassLoader().getResource(embeddedTemplateDir());
+            if (embedded != null && "file".equals(embedded.getProtocol())) {
+                appendTemplateHashes(builder, FileUtils.toFile(embedded));
+            } else if (embedded != null && "jar".equals(embedded.getProtocol())) {
+                appendTemplateHashes(builder, embedded, embeddedTemplateDir());
+            }
+        }
+        return IncrementalGeneration.hash(builder.toString());
+    }
+
+    private static void appendTemplateHashes(StringBuilder builder, URL jarFolder, String folder) {
+        final String prefix = StringUtils.removeEnd(folder.replace('\\', '/'), "/") + "/";
+        try {
+            final JarURLConnection connection = (JarURLConnection) jarFolder.openConnection();
+            connection.setUseCaches(false);
+            try (JarFile jar = connection.getJarFile()) {
+                final List<JarEntry> templates = new ArrayList<>();
+                for (JarEntry entry : Collections.list(jar.entries())) {
+                    if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                        templates.add(entry);
+                    }
+                }
+                templates.sort(Comparator.comparing(JarEntry::getName));
+                for (JarEntry template : templates) {
+                    try (InputStream inputStream = jar.getInputStream(template)) {
+                        builder.append(template.getName()).append('=')
+                                .append(IncrementalGeneration.hash(IOUtils.toString(inputStream, StandardCharsets.UTF_8)))
+                                .append('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read templates " + jarFolder, e);
+        }
+    }
+
+    private static void appendTemplateHashes(StringBuilder builder, File folder) {
+        final List<File> templates = new ArrayList<>(FileUtils.listFiles(folder, null, true));
+        Collections.sort(templates);
+        for (File template : templates) {
+            try {
+                builder.append(template.getPath()).append('=')
+                        .append(IncrementalGeneration.hash(FileUtils.readFileToString(template, StandardCharsets.UTF_8)))
+                        .append('\n');
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read template " + template, e);
+            }
+        }
+    }
+
+    public boolean isParallelOperationConversion() {
+        return parallelOperationConversion;
+    }
+
+    public void setParallelOperationConversion(boolean parallelOperationConversion) {
+        this.parallelOperationConversion = parallelOperationConversion;
+    }
+
+    private Map<String, Object> newAdditionalProperties() {
+        return new RunScopedMap<>(() -> {
+            final GenerationContext run = getRun();
+            return run != null ? run.getAdditionalProperties() : configuredProperties;
+        });
+    }
+
+    private List<SupportingFile> newSupportingFiles() {
+        return new RunScopedList<>(() -> {
+            final GenerationContext run = getRun();
+            return run != null ? run.getSupportingFiles() : configuredSupportingFiles;
+        });
+    }
+
+    /**
+     * Copy of a configured generator (options processed, supporting files added), e.g. of a prototype kept to serve
+     * many generations without creating and configuring a generator for each. The tables of the copy (type and
+     * import mappings, reserved words, template files, additional properties...) read those of this generator until
+     * the copy changes them, so this generator must not be changed once copied. The copy has no generation context
+     * and no run; its names are cached apart.
+     *
+     * Generators keeping other state changed during a generation must override this method to copy it.
+     *
+     * @return the copy
+     */
+    @Override
+    public DefaultCodegenConfig clone() {
+        final DefaultCodegenConfig copy;
+        try {
+            copy = (DefaultCodegenConfig) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+        copy.defaultIncludes = new CopyOnWriteSet<>(defaultIncludes);
+        copy.typeMapping = new CopyOnWriteMap<>(typeMapping);
+        copy.instantiationTypes = new CopyOnWriteMap<>(instantiationTypes);
+        copy.reservedWords = new CopyOnWriteSet<>(reservedWords);
+        copy.languageSpecificPrimitives = new CopyOnWriteSet<>(languageSpecificPrimitives);
+        copy.importMapping = new CopyOnWriteMap<>(importMapping);
+        copy.apiTemplateFiles = new CopyOnWriteMap<>(apiTemplateFiles);
+        copy.modelTemplateFiles = new CopyOnWriteMap<>(modelTemplateFiles);
+        copy.apiTestTemplateFiles = new CopyOnWriteMap<>(apiTestTemplateFiles);
+        copy.modelTestTemplateFiles = new CopyOnWriteMap<>(modelTestTemplateFiles);
+        copy.apiDocTemplateFiles = new CopyOnWriteMap<>(apiDocTemplateFiles);
+        copy.modelDocTemplateFiles = new CopyOnWriteMap<>(modelDocTemplateFiles);
+        copy.reservedWordsMappings = new CopyOnWriteMap<>(reservedWordsMappings);
+        copy.specialCharReplacements = new CopyOnWriteMap<>(specialCharReplacements);
+        copy.supportedLibraries = new LinkedHashMap<>(supportedLibraries);
+        copy.vendorExtensions = new CopyOnWriteMap<>(vendorExtensions);
+        copy.cliOptions = new ArrayList<>(cliOptions);
+        copy.configuredProperties = new CopyOnWriteMap<>(configuredProperties);
+        copy.configuredSupportingFiles = new ArrayList<>(configuredSupportingFiles);
+        copy.additionalProperties = copy.newAdditionalProperties();
+        copy.supportingFiles = copy.newSupportingFiles();
+        copy.runs = new ThreadLocal<>();
+        copy.useContext(null, false);
+        copy.nameCache = new NameCache(nameCache.getMaxSize());
+        copy.metrics = null;
+        return copy;
+    }
+
+    /**
+     * Start a generation run on the current thread. Until {@link #endRun()}, the additional properties and supporting
+     * files read and changed on the thread are those of the run, copied from the ones configured on the generator,
+     * and the models are converted with the schemas of the run. A configured generator can thus serve several
+     * generations, one after the other or concurrently on different threads, without any change leaking from one to
+     * the other.
+     *
+     * @return the context of the run
+     */
+    public GenerationContext startRun() {
+        final GenerationContext run = GenerationContext.newRun(configuredProperties, configuredSupportingFiles);
+        useContext(run, true);
+        return run;
+    }
+
+    /**
+     * End the run started on the current thread, dropping its state.
+     */
+    public void endRun() {
+        runs.remove();
+    }
+
+    private GenerationContext getRun() {
+        final GenerationContext context = getGenerationContext();
+        return context != null && context.isRun() ? context : null;
+    }
+
+    /**
+     * Run a task on the current thread within the given run, e.g. a task of a run split over several threads.
+     */
+    private void runIn(GenerationContext run, Runnable task) {
+        if (run == null) {
+            task.run();
+            return;
+        }
+        final GenerationContext previous = runs.get();
+        runs.set(run);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                runs.remove();
+            } else {
+                runs.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return schemas and type aliases of the current generation run, null before any model was converted
+     */
+    public GenerationContext getGenerationContext() {
+        final GenerationContext run = runs.get();
+        return run != null ? run : generationContext;
+    }
+
+    /**
+     * Start a new generation run, e.g. before converting the models of another specification. Within a run started
+     * by {@link #startRun()}, the context replaces the one of the run on the current thread.
+     *
+     * @param generationContext context of the run
+     */
+    public void setGenerationContext(GenerationContext generationContext) {
+        useContext(generationContext, runs.get() != null);
+    }
+
+    // every context created or set goes through here, for the generators still reading the typeAliases field
+    @SuppressWarnings("deprecation")
+    private void useContext(GenerationContext context, boolean run) {
+        typeAliases = context == null ? null : context.getTypeAliases();
+        if (run) {
+            runs.set(context);
+        } else {
+            generationContext = context;
+        }
+    }
+
+    /**
+     * Return the context of the current run, creating it from the given schemas if no run was started yet, if the
+     * run has no schemas yet or if schemas were added, removed or replaced since it was created.
+     *
+     * @param allDefinitions a map of all Swagger models from the spec
+     * @return the generation context
+     */
+    protected GenerationContext getGenerationContext(Map<String, Schema> allDefinitions) {
+        return getGenerationContext(allDefinitions, null);
+    }
+
+    // checks all the schemas when name is null, otherwise only the ones of the model converted
+    private GenerationContext getGenerationContext(Map<String, Schema> allDefinitions, String name) {
+        GenerationContext context = runs.get();
+        if (context != null) {
+            if (needsSchemas(context, allDefinitions, name)) {
+                context = context.withSchemas(allDefinitions);
+                useContext(context, true);
+            }
+            return context;
+        }
+        context = generationContext;
+        if (context == null || needsSchemas(context, allDefinitions, name)) {
+            synchronized (this) {
+                context = generationContext;
+                if (context == null) {
+                    context = new GenerationContext(allDefinitions);
+                    useContext(context, false);
+                } else if (needsSchemas(context, allDefinitions, name)) {
+                    context = context.withSchemas(allDefinitions);
+                    useContext(context, false);
+                }
+            }
+        }
+        return context;
+    }
+
+    // whether the context has no schemas yet, or was created before schemas were changed in the specification
+    private static boolean needsSchemas(GenerationContext context, Map<String, Schema> allDefinitions, String name) {
+        if (allDefinitions == null) {
+            return false;
+        }
+        if (!context.hasSchemas()) {
+            return true;
+        }
+        if (!context.isFor(allDefinitions)) {
+            return false;
+        }
+        final SchemaIndex schemaIndex = context.getSchemaIndex();
+        return name == null ? schemaIndex.isStale(allDefinitions) : schemaIndex.isStale(allDefinitions, name);
+    }
+
+    /**
+     * @return mapping from model name to the simple type the model is an alias of, for the current run
+     */
+    protected Map<String, String> getTypeAliases() {
+        final GenerationContext context = getGenerationContext();
+        return context == null ? Collections.emptyMap() : context.getTypeAliases();
     }
 
     /**
@@ -831,9 +1427,6 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         // name formatting options
         cliOptions.add(CliOption.newBoolean(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, CodegenConstants
                 .ALLOW_UNICODE_IDENTIFIERS_DESC).defaultValue(Boolean.FALSE.toString()));
-
-        // initialize special character mapping
-        initalizeSpecialCharacterMapping(specialCharReplacements);
     }
 
     /**
@@ -1178,6 +1771,150 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return fromModel(name, schema, null);
     }
 
+    /**
+     * Convert all the Swagger models of a specification, starting a new generation context. Models are converted
+     * concurrently on the common ForkJoinPool when parallel model conversion is enabled, which requires
+     * {@link #fromModel(String, Schema, Map)} not to modify any state of the generator.
+     *
+     * @param schemas a map of all Swagger models from the spec
+     * @return Codegen Model objects by model name, in the iteration order of <code>schemas</code>
+     */
+    public Map<String, CodegenModel> fromModels(Map<String, Schema> schemas) {
+        final GenerationContext run = getRun();
+        setGenerationContext(run != null ? run.withSchemas(schemas) : new GenerationContext(schemas));
+        if (schemas == null || schemas.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return fromModels(new ArrayList<>(schemas.keySet()), schemas);
+    }
+
+    /**
+     * Convert the models of a specification in batches, for specifications too large for all their models to be
+     * held in memory until rendering. Each batch is handed to the consumer, which post-processes
+     * ({@link #postProcessModels(Map)}) and renders it, and isn't referenced anymore once the consumer returns.
+     *
+     * Instead of {@link #postProcessAllModels(Map)}, which needs all the models, the links between models of
+     * generators supporting inheritance are set from a {@link ModelIndex}: the parent and interfaces of each model are converted once and kept until the end
+     * of the conversion, the children of a model are references holding their names only.
+     * {@link #postProcessModelIndex(ModelIndex)} is called with the index before the first batch.
+     *
+     * @param schemas a map of all Swagger models from the spec
+     * @param batchSize number of models of each batch, 0 for a single batch
+     * @param consumer post-processes and renders a batch of Codegen Model objects by model name
+     */
+    public void fromModels(Map<String, Schema> schemas, int batchSize, Consumer<Map<String, CodegenModel>> consumer) {
+        final GenerationContext run = getRun();
+        setGenerationContext(run != null ? run.withSchemas(schemas) : new GenerationContext(schemas));
+        if (schemas == null || schemas.isEmpty()) {
+            return;
+        }
+        final ModelIndex index = new ModelIndex(getGenerationContext(schemas).getSchemaIndex(), schemas.keySet());
+        postProcessModelIndex(index);
+        final Map<String, CodegenModel> referencedModels = new HashMap<>();
+        final List<String> names = new ArrayList<>(schemas.keySet());
+        final int size = batchSize > 0 ? batchSize : names.size();
+        for (int start = 0; start < names.size(); start += size) {
+            final Map<String, CodegenModel> batch = fromModels(names.subList(start, Math.min(start + size, names.size())), schemas);
+            if (supportsInheritance) {
+                for (Map.Entry<String, CodegenModel> entry : batch.entrySet()) {
+                    final CodegenModel codegenModel = entry.getValue();
+                    linkModel(entry.getKey(), codegenModel, index, schemas, referencedModels);
+                    final List<String> children = index.getChildren(entry.getKey());
+                    if (!children.isEmpty()) {
+                        codegenModel.children = new ArrayList<>();
+                        for (String child : children) {
+                            codegenModel.children.add(toModelReference(child));
+                        }
+                    }
+                }
+            }
+            consumer.accept(batch);
+        }
+    }
+
+    /**
+     * Called by {@link #fromModels(Map, int, Consumer)} with the links between all the models, in place of
+     * {@link #postProcessAllModels(Map)}, for generators needing information on all the models.
+     *
+     * @param index links between the models of the specification
+     */
+    @SuppressWarnings("unused")
+    public void postProcessModelIndex(ModelIndex index) {
+    }
+
+    /**
+     * Lightweight model standing for a model in the links of other models, e.g. in the children of its parent.
+     *
+     * @param name the name of the model
+     * @return a Codegen Model object with the names of the model only
+     */
+    protected CodegenModel toModelReference(String name) {
+        final CodegenModel reference = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
+        reference.vendorExtensions = new FlagMap(reference.vendorExtensions);
+        reference.name = reservedWords.contains(name) ? escapeReservedWord(name) : name;
+        reference.classname = nameCache.get(NameCache.MODEL_NAME, name, this::toModelName);
+        reference.classVarName = nameCache.get(NameCache.VAR_NAME, name, this::toVarName);
+        reference.classFilename = nameCache.get(NameCache.MODEL_FILENAME, name, this::toModelFilename);
+        return reference;
+    }
+
+    private void linkModel(String name, CodegenModel codegenModel, ModelIndex index, Map<String, Schema> schemas, Map<String, CodegenModel> referencedModels) {
+        final String parent = index.getParent(name);
+        if (parent != null) {
+            codegenModel.parentModel = getReferencedModel(parent, index, schemas, referencedModels);
+        }
+        final List<String> interfaces = index.getInterfaces(name);
+        if (!interfaces.isEmpty()) {
+            codegenModel.interfaceModels = new ArrayList<>();
+            for (String interfaceName : interfaces) {
+                final CodegenModel interfaceModel = getReferencedModel(interfaceName, index, schemas, referencedModels);
+                if (interfaceModel != null) {
+                    codegenModel.interfaceModels.add(interfaceModel);
+                }
+            }
+        }
+    }
+
+    private CodegenModel getReferencedModel(String name, ModelIndex index, Map<String, Schema> schemas, Map<String, CodegenModel> referencedModels) {
+        CodegenModel codegenModel = referencedModels.get(name);
+        if (codegenModel == null) {
+            final Schema schema = schemas.get(name);
+            if (schema == null) {
+                return null;
+            }
+            codegenModel = fromModel(name, schema, schemas);
+            // registered before linking, the hierarchy may have cycles
+            referencedModels.put(name, codegenModel);
+            linkModel(name, codegenModel, index, schemas, referencedModels);
+        }
+        return codegenModel;
+    }
+
+    // converts the given models, concurrently when parallel model conversion is enabled
+    private Map<String, CodegenModel> fromModels(List<String> names, Map<String, Schema> schemas) {
+        final Map<String, CodegenModel> codegenModels = new LinkedHashMap<>();
+        final CodegenModel[] converted = new CodegenModel[names.size()];
+        if (parallelModelConversion) {
+            final GenerationContext context = runs.get();
+            IntStream.range(0, converted.length).parallel()
+                    .forEach(index -> runIn(context, () -> converted[index] = measuredFromModel(names.get(index), schemas)));
+        } else {
+            for (int index = 0; index < converted.length; index++) {
+                converted[index] = measuredFromModel(names.get(index), schemas);
+            }
+        }
+        for (int index = 0; index < converted.length; index++) {
+            codegenModels.put(names.get(index), converted[index]);
+        }
+        return codegenModels;
+    }
+
+    // measures the conversion including the one of the generator, not only the one of this class
+    private CodegenModel measuredFromModel(String name, Map<String, Schema> schemas) {
+        return measure(GenerationMetrics.FROM_MODEL, name, () -> fromModel(name, schemas.get(name), schemas),
+                GenerationMetrics.PROPERTIES, DefaultCodegenConfig::countProperties);
+    }
+
     /**
      * Convert Swagger Model object to Codegen Model object
      *
@@ -1187,11 +1924,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Model object
      */
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
-        if (typeAliases == null) {
-            // Only do this once during first call
-            typeAliases = getAllAliases(allDefinitions);
-        }
+        // nested conversions, e.g. of the parent, are neither measured nor counted again
+        return measure(GenerationMetrics.FROM_MODEL, name, () -> convertModel(name, schema, allDefinitions),
+                GenerationMetrics.PROPERTIES, DefaultCodegenConfig::countProperties);
+    }
+
+    private CodegenModel convertModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        final GenerationContext context = getGenerationContext(allDefinitions, name);
         final CodegenModel codegenModel = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
+        codegenModel.vendorExtensions = new FlagMap(codegenModel.vendorExtensions);
         if (reservedWords.contains(name)) {
             codegenModel.name = escapeReservedWord(name);
         } else {
@@ -1200,15 +1941,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenModel.title = escapeText(schema.getTitle());
         codegenModel.description = escapeText(schema.getDescription());
         codegenModel.unescapedDescription = schema.getDescription();
-        codegenModel.classname = toModelName(name);
-        codegenModel.classVarName = toVarName(name);
-        codegenModel.classFilename = toModelFilename(name);
-        codegenModel.modelJson = Json.pretty(schema);
+        codegenModel.classname = nameCache.get(NameCache.MODEL_NAME, name, this::toModelName);
+        codegenModel.classVarName = nameCache.get(NameCache.VAR_NAME, name, this::toVarName);
+        codegenModel.classFilename = nameCache.get(NameCache.MODEL_FILENAME, name, this::toModelFilename);
+        if (generateModelJson) {
+            codegenModel.modelJson = Json.pretty(schema);
+        }
         codegenModel.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             codegenModel.getVendorExtensions().putAll(schema.getExtensions());
         }
-        codegenModel.getVendorExtensions().put(CodegenConstants.IS_ALIAS_EXT_NAME, typeAliases.containsKey(name));
+        codegenModel.getVendorExtensions().put(CodegenConstants.IS_ALIAS_EXT_NAME, context.getTypeAliases().containsKey(name));
 
         codegenModel.discriminator = schema.getDiscriminator();
 
@@ -1337,6 +2080,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (composedSchema == null || allSchema == null || allSchema.isEmpty()) {
             return false;
         }
+        final SchemaIndex index = getSchemaIndex(allSchema);
+        if (index != null && index.isIndexed(composedSchema)) {
+            return index.isDiscriminatorInInterfaceTree(composedSchema);
+        }
         if (composedSchema.getDiscriminator() != null) {
             return true;
         }
@@ -1357,6 +2104,23 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected void addProperties(Map<String, Schema> properties, List<String> required, Schema schema, Map<String, Schema> allSchemas) {
+        final GenerationContext context = getGenerationContext();
+        if (context == null || !context.isFor(allSchemas)) {
+            flattenProperties(properties, required, schema, allSchemas);
+            return;
+        }
+        // each ancestor of a hierarchy gets flattened once per run
+        final GenerationContext.FlattenedProperties flattened = context.getFlattenedProperties(schema, flattenedSchema -> {
+            final Map<String, Schema> flattenedProperties = new LinkedHashMap<>();
+            final List<String> flattenedRequired = new ArrayList<>();
+            flattenProperties(flattenedProperties, flattenedRequired, flattenedSchema, allSchemas);
+            return new GenerationContext.FlattenedProperties(flattenedProperties, flattenedRequired);
+        });
+        properties.putAll(flattened.getProperties());
+        required.addAll(flattened.getRequired());
+    }
+
+    private void flattenProperties(Map<String, Schema> properties, List<String> required, Schema schema, Map<String, Schema> allSchemas) {
         if(schema instanceof ComposedSchema) {
             ComposedSchema composedSchema = (ComposedSchema) schema;
             if(composedSchema.getAllOf() == null) {
@@ -1390,7 +2154,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (name == null || name.length() == 0) {
             return name;
         }
-        return camelize(toVarName(name));
+        return nameCache.get(NameCache.CAMELIZE, nameCache.get(NameCache.VAR_NAME, name, this::toVarName), DefaultCodegenConfig::camelize);
     }
 
     /**
@@ -1408,14 +2172,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
 
         final CodegenProperty codegenProperty = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
-        codegenProperty.name = toVarName(name);
+        codegenProperty.vendorExtensions = new FlagMap(codegenProperty.vendorExtensions);
+        codegenProperty.name = nameCache.get(NameCache.VAR_NAME, name, this::toVarName);
         codegenProperty.baseName = name;
-        codegenProperty.nameInCamelCase = camelize(codegenProperty.name, false);
+        codegenProperty.nameInCamelCase = nameCache.get(NameCache.CAMELIZE, codegenProperty.name, DefaultCodegenConfig::camelize);
         codegenProperty.description = escapeText(propertySchema.getDescription());
         codegenProperty.unescapedDescription = propertySchema.getDescription();
         codegenProperty.title = propertySchema.getTitle();
-        codegenProperty.getter = toGetter(name);
-        codegenProperty.setter = toSetter(name);
+        codegenProperty.getter = nameCache.get(NameCache.GETTER, name, this::toGetter);
+        codegenProperty.setter = nameCache.get(NameCache.SETTER, name, this::toSetter);
         String example = toExampleValue(propertySchema);
         if(!"null".equals(example)) {
             codegenProperty.example = example;
@@ -1792,6 +2557,156 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return responses.get(code);
     }
 
+    /**
+     * Convert all the operations of the spec and group them by tag. One Codegen Operation is created per tag of each
+     * operation, as with {@link #fromOperation(String, String, Operation, Map, OpenAPI)} called for every tag.
+     * When parallel operation conversion is enabled, operations are converted concurrently on the common
+     * ForkJoinPool, then added to their groups in the order of the spec, so the result is the same as a serial
+     * conversion.
+     *
+     * @param openAPI a OpenAPI object representing the spec
+     * @return Codegen Operation objects by (sanitized) tag
+     */
+    public Map<String, List<CodegenOperation>> fromOperations(OpenAPI openAPI) {
+        final Map<String, List<CodegenOperation>> operations = new TreeMap<>();
+        if (openAPI == null || openAPI.getPaths() == null) {
+            return operations;
+        }
+        final Map<String, Schema> schemas = openAPI.getComponents() != null ? openAPI.getComponents().getSchemas() : null;
+        final List<TaggedOperation> taggedOperations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> pathEntry : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                final Operation operation = operationEntry.getValue();
+                final String httpMethod = operationEntry.getKey().name().toLowerCase(Locale.ROOT);
+                if (operation.getTags() == null || operation.getTags().isEmpty()) {
+                    taggedOperations.add(new TaggedOperation(pathEntry.getKey(), httpMethod, operation, DEFAULT_TAG));
+                    continue;
+                }
+                for (String tag : operation.getTags()) {
+                    taggedOperations.add(new TaggedOperation(pathEntry.getKey(), httpMethod, operation, tag));
+                }
+            }
+        }
+        final CodegenOperation[] converted = new CodegenOperation[taggedOperations.size()];
+        final IntStream indexes = IntStream.range(0, converted.length);
+        final GenerationContext run = runs.get();
+        (parallelOperationConversion ? indexes.parallel() : indexes).forEach(index -> runIn(run, () -> {
+            final TaggedOperation taggedOperation = taggedOperations.get(index);
+            converted[index] = measure(GenerationMetrics.FROM_OPERATION, operationItem(taggedOperation.path, taggedOperation.httpMethod),
+                    () -> fromOperation(taggedOperation.path, taggedOperation.httpMethod, taggedOperation.operation, schemas, openAPI),
+                    GenerationMetrics.PARAMETERS, DefaultCodegenConfig::countParameters);
+        }));
+        // grouping decides unique operation ids, it must follow the order of the spec
+        for (int index = 0; index < converted.length; index++) {
+            final TaggedOperation taggedOperation = taggedOperations.get(index);
+            addOperationToGroup(sanitizeTag(taggedOperation.tag), taggedOperation.path, taggedOperation.operation, converted[index], operations);
+        }
+        return operations;
+    }
+
+    /**
+     * Positions of the operationIds in the operation list of a tag, indexing operations added to the list since the
+     * last lookup.
+     */
+    private static class OperationIdIndex {
+        private final List<CodegenOperation> operations;
+        private final Map<String, List<Integer>> positions = new HashMap<>();
+        private int indexed;
+
+        OperationIdIndex(List<CodegenOperation> operations) {
+            this.operations = operations;
+        }
+
+        /**
+         * Same name as scanning the list in order and renaming the operationId each time an operation has the
+         * current name.
+         */
+        String getUniqueName(String operationId) {
+            for (; indexed < operations.size(); indexed++) {
+                positions.computeIfAbsent(operations.get(indexed).operationId, key -> new ArrayList<>()).add(indexed);
+            }
+            String uniqueName = operationId;
+            int counter = 0;
+            int position = -1;
+            while (true) {
+                position = findNext(uniqueName, position);
+                if (position < 0) {
+                    return uniqueName;
+                }
+                if (!StringUtils.equals(uniqueName, operations.get(position).operationId)) {
+                    // an operationId was changed after being indexed
+                    positions.clear();
+                    indexed = 0;
+                    return getUniqueName(operationId);
+                }
+                uniqueName = operationId + "_" + counter;
+                counter++;
+            }
+        }
+
+        private int findNext(String operationId, int position) {
+            final List<Integer> candidates = positions.get(operationId);
+            if (candidates == null) {
+                return -1;
+            }
+            int next = Collections.binarySearch(candidates, position + 1);
+            if (next < 0) {
+                next = -next - 1;
+            }
+            return next < candidates.size() ? candidates.get(next) : -1;
+        }
+    }
+
+    /**
+     * Operation list of a tag created by addOperationToGroup, keeping the index of its operationIds for as long as
+     * the list lives, whoever calls addOperationToGroup.
+     */
+    private static class GroupedOperations extends ArrayList<CodegenOperation> {
+        private transient OperationIdIndex operationIdIndex;
+        private transient int indexedModCount;
+        private transient int indexedSize;
+
+        OperationIdIndex getOperationIdIndex() {
+            // indexed again unless operations were only added one by one since the last lookup
+            if (operationIdIndex == null || modCount - indexedModCount != size() - indexedSize) {
+                operationIdIndex = new OperationIdIndex(this);
+            }
+            indexedModCount = modCount;
+            indexedSize = size();
+            return operationIdIndex;
+        }
+    }
+
+    private static class ArgumentDefinition {
+        private final String option;
+        private final String shortOption;
+        private final String description;
+        private final String type;
+        private final boolean isArray;
+
+        ArgumentDefinition(String option, String shortOption, String description, String type, boolean isArray) {
+            this.option = option;
+            this.shortOption = shortOption;
+            this.description = description;
+            this.type = type;
+            this.isArray = isArray;
+        }
+    }
+
+    private static class TaggedOperation {
+        private final String path;
+        private final String httpMethod;
+        private final Operation operation;
+        private final String tag;
+
+        TaggedOperation(String path, String httpMethod, Operation operation, String tag) {
+            this.path = path;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.tag = tag;
+        }
+    }
+
     /**
      * Convert Swagger Operation object to Codegen Operation object (without providing a Swagger object)
      *
@@ -1816,7 +2731,18 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Operation object
      */
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        return measure(GenerationMetrics.FROM_OPERATION, operationItem(path, httpMethod),
+                () -> convertOperation(path, httpMethod, operation, schemas, openAPI),
+                GenerationMetrics.PARAMETERS, DefaultCodegenConfig::countParameters);
+    }
+
+    private static String operationItem(String path, String httpMethod) {
+        return httpMethod.toUpperCase(Locale.ROOT) + " " + path;
+    }
+
+    private CodegenOperation convertOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
         CodegenOperation codegenOperation = CodegenModelFactory.newInstance(CodegenModelType.OPERATION);
+        codegenOperation.vendorExtensions = new FlagMap(codegenOperation.vendorExtensions);
         Set<String> imports = new HashSet<String>();
         if (operation.getExtensions() != null && !operation.getExtensions().isEmpty()) {
             codegenOperation.vendorExtensions.putAll(operation.getExtensions());
@@ -2074,6 +3000,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     public CodegenResponse fromResponse(String responseCode, ApiResponse response) {
         final CodegenResponse codegenResponse = CodegenModelFactory.newInstance(CodegenModelType.RESPONSE);
+        codegenResponse.vendorExtensions = new FlagMap(codegenResponse.vendorExtensions);
         if ("default".equals(responseCode)) {
             codegenResponse.code = "0";
         } else {
@@ -2172,6 +3099,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     public CodegenParameter fromParameter(Parameter parameter, Set<String> imports) {
         CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+        codegenParameter.vendorExtensions = new FlagMap(codegenParameter.vendorExtensions);
         codegenParameter.baseName = parameter.getName();
         codegenParameter.description = escapeText(parameter.getDescription());
         codegenParameter.unescapedDescription = parameter.getDescription();
@@ -2268,7 +3196,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if(collectionFormat != null && collectionFormat.equals("multi")) {
                 codegenParameter.getVendorExtensions().put(CodegenConstants.IS_COLLECTION_FORMAT_MULTI_EXT_NAME, Boolean.TRUE);
             }
-            codegenParameter.paramName = toParamName(parameter.getName());
+            codegenParameter.paramName = nameCache.get(NameCache.PARAM_NAME, parameter.getName(), this::toParamName);
 
             // import
             if (codegenProperty.complexType != null) {
@@ -2374,6 +3302,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     public CodegenParameter fromRequestBody(RequestBody body, Map<String, Schema> schemas, Set<String> imports) {
         CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+        codegenParameter.vendorExtensions = new FlagMap(codegenParameter.vendorExtensions);
         codegenParameter.baseName = REQUEST_BODY_NAME;
         codegenParameter.paramName = REQUEST_BODY_NAME;
         codegenParameter.description = body.getDescription();
@@ -2568,10 +3497,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected void setReservedWordsLowerCase(List<String> words) {
-        reservedWords = new HashSet<String>();
-        for (String word : words) {
-            reservedWords.add(word.toLowerCase());
+        Set<String> lowerCaseWords = RESERVED_WORDS.get(words);
+        if (lowerCaseWords == null) {
+            lowerCaseWords = new HashSet<String>();
+            for (String word : words) {
+                lowerCaseWords.add(word.toLowerCase());
+            }
+            lowerCaseWords = Collections.unmodifiableSet(lowerCaseWords);
+            RESERVED_WORDS.putIfAbsent(new ArrayList<>(words), lowerCaseWords);
         }
+        reservedWords = new CopyOnWriteSet<>(lowerCaseWords);
     }
 
     protected boolean isReservedWord(String word) {
@@ -2690,26 +3625,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     public void addOperationToGroup(String tag, String resourcePath, Operation operation, CodegenOperation co, Map<String, List<CodegenOperation>> operations) {
         List<CodegenOperation> opList = operations.get(tag);
         if (opList == null) {
-            opList = new ArrayList<CodegenOperation>();
+            opList = new GroupedOperations();
             operations.put(tag, opList);
         }
-        // check for operationId uniqueness
-
-        String uniqueName = co.operationId;
-        int counter = 0;
-        for(CodegenOperation op : opList) {
-            if(uniqueName.equals(op.operationId)) {
-                uniqueName = co.operationId + "_" + counter;
-                counter ++;
-            }
-        }
+        // check for operationId uniqueness, with the taken operationIds indexed once for the lists created here
+        final OperationIdIndex operationIdIndex = opList instanceof GroupedOperations
+                ? ((GroupedOperations) opList).getOperationIdIndex() : new OperationIdIndex(opList);
+        String uniqueName = operationIdIndex.getUniqueName(co.operationId);
         if(!co.operationId.equals(uniqueName)) {
             LOGGER.warn("generated unique operationId `" + uniqueName + "`");
         }
         co.operationId = uniqueName;
         co.operationIdLowerCase = uniqueName.toLowerCase();
-        co.operationIdCamelCase = camelize(uniqueName);
-        co.operationIdSnakeCase = underscore(uniqueName);
+        co.operationIdCamelCase = nameCache.get(NameCache.CAMELIZE, uniqueName, DefaultCodegenConfig::camelize);
+        co.operationIdSnakeCase = nameCache.get(NameCache.UNDERSCORE, uniqueName, DefaultCodegenConfig::underscore);
         opList.add(co);
         co.baseName = tag;
     }
@@ -2738,21 +3667,33 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        final int length = word.length();
+        final StringBuilder builder = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (c == '.') {
+                // Replace package separator with slash.
+                builder.append('/');
+            } else if (c == '$') {
+                // Replace $ with two underscores for inner classes.
+                builder.append("__");
+            } else if (c == '-' || c == ' ') {
+                builder.append('_');
+            } else {
+                if (isAsciiUpperCase(c) && i > 0) {
+                    final char previous = word.charAt(i - 1);
+                    if (isAsciiLowerCase(previous) || isAsciiDigit(previous)) {
+                        // "aB" => "a_B"
+                        builder.append('_');
+                    } else if (isAsciiUpperCase(previous) && i + 1 < length && isAsciiLowerCase(word.charAt(i + 1))) {
+                        // last capital of an uppercase run followed by a lowercase letter: "ABc" => "A_Bc"
+                        builder.append('_');
+                    }
+                }
+                builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase();
     }
 
     /**
@@ -2901,7 +3842,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @param allSchemas The complete set of model definitions.
      * @return A mapping from model name to type alias
      */
-    private static Map<String, String> getAllAliases(Map<String, Schema> allSchemas) {
+    static Map<String, String> getAllAliases(Map<String, Schema> allSchemas) {
         Map<String, String> aliases = new HashMap<>();
         if (allSchemas == null || allSchemas.isEmpty()) {
             return aliases;
@@ -2970,66 +3911,150 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
-        }
-
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+        final boolean turkic = isTurkicLocale();
+        final int length = word.length();
+        final StringBuilder builder = new StringBuilder(length);
+
+        // Replace all slashes with dots (package separator), case out dots and uppercase the class name (the first
+        // word character)
+        boolean partStart = true;
+        boolean classNameFound = false;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+                continue;
+            }
+            if (classNameFound && c == '\\') {
+                // backslashes following the class name escape the next character
+                partStart = false;
+                i++;
+                while (i < length && (word.charAt(i) == '/' || word.charAt(i) == '.')) {
+                    partStart = true;
+                    i++;
+                }
+                if (i == length) {
+                    break;
+                }
+                c = word.charAt(i);
+            }
+            if (partStart) {
+                c = Character.toUpperCase(c);
+                partStart = false;
+            }
+            if (!classNameFound && isAsciiWordCharacter(c)) {
+                classNameFound = true;
+                appendUpperCase(builder, c, turkic);
+            } else {
+                builder.append(c);
             }
         }
-        word = f.toString();
 
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
+        String result = builder.toString();
+        // Remove all underscores (underscore_case to camelCase)
+        if (result.indexOf('_') >= 0) {
+            result = camelizeSeparator(result, '_', turkic);
         }
-
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
+        // Remove all hyphens (hyphen-case to camelCase)
+        if (result.indexOf('-') >= 0) {
+            result = camelizeSeparator(result, '-', turkic);
         }
 
-        // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            String original = m.group(2);
-            String upperCase = original.toUpperCase();
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
+        if (lowercaseFirstLetter && result.length() > 0) {
+            final char first = result.charAt(0);
+            if (first < 0x80 && !(turkic && first == 'I')) {
+                if (isAsciiUpperCase(first)) {
+                    result = (char) (first + ('a' - 'A')) + result.substring(1);
+                }
             } else {
-                word = m.replaceFirst(upperCase);
+                result = String.valueOf(first).toLowerCase() + result.substring(1);
             }
-            m = p.matcher(word);
         }
+        return result;
+    }
 
-        // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
+    /**
+     * Remove each separator ('_' or '-') followed by a character, upper-casing that character. As in the
+     * original regular expression based implementation, separators followed by a line terminator or at the end
+     * of the word are kept, and an underscore followed by a character without upper case form is dropped
+     * together with the underscores kept before it.
+     */
+    private static String camelizeSeparator(String word, char separator, boolean turkic) {
+        final int length = word.length();
+        final StringBuilder builder = new StringBuilder(length);
+        int pendingUnderscores = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (c != separator || i + 1 == length) {
+                builder.append(c);
+                continue;
+            }
+            final int next = word.codePointAt(i + 1);
+            if (isLineTerminator(next)) {
+                builder.append(c);
+                pendingUnderscores++;
+                continue;
+            }
+            final int nextLength = Character.charCount(next);
+            final String original = word.substring(i + 1, i + 1 + nextLength);
+            final String upperCase = next < 0x80 && !(turkic && next == 'i')
+                    ? (isAsciiLowerCase((char) next) ? String.valueOf((char) (next - ('a' - 'A'))) : original)
+                    : original.toUpperCase();
+            if (separator == '-') {
+                if (next == '-') {
+                    // "--" is replaced by "-", which is matched again with the following character
+                    continue;
+                }
+                builder.append(upperCase);
+                i += nextLength;
+            } else if (original.equals(upperCase)) {
+                // only the first underscore of the word gets removed, which is the one being looked at once all
+                // underscores kept before line terminators are gone
+                for (int j = builder.length() - 1; pendingUnderscores > 0; j--) {
+                    if (builder.charAt(j) == '_') {
+                        builder.deleteCharAt(j);
+                        pendingUnderscores--;
+                    }
+                }
+            } else {
+                builder.append(upperCase);
+                i += nextLength;
+            }
         }
+        return builder.toString();
+    }
 
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+    private static void appendUpperCase(StringBuilder builder, char c, boolean turkic) {
+        if (turkic && c == 'i') {
+            builder.append(String.valueOf(c).toUpperCase());
+        } else {
+            builder.append(isAsciiLowerCase(c) ? (char) (c - ('a' - 'A')) : c);
         }
+    }
 
-        return word;
+    private static boolean isTurkicLocale() {
+        final String language = Locale.getDefault().getLanguage();
+        return "tr".equals(language) || "az".equals(language);
+    }
+
+    private static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isAsciiUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiWordCharacter(char c) {
+        return isAsciiUpperCase(c) || isAsciiLowerCase(c) || isAsciiDigit(c) || c == '_';
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -3075,6 +4100,24 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         this.skipOverwrite = skipOverwrite;
     }
 
+    public boolean isSkipUnchangedFiles() {
+        return skipUnchangedFiles;
+    }
+
+    public void setSkipUnchangedFiles(boolean skipUnchangedFiles) {
+        this.skipUnchangedFiles = skipUnchangedFiles;
+    }
+
+    /**
+     * Writer of the rendered files of a generation, honoring {@link #isSkipOverwrite()} and
+     * {@link #isSkipUnchangedFiles()}.
+     *
+     * @return a new writer, counting the files it writes and skips
+     */
+    public GeneratedFileWriter newFileWriter() {
+        return new GeneratedFileWriter(skipOverwrite, skipUnchangedFiles, getGenerationMetrics());
+    }
+
     public boolean isRemoveOperationIdPrefix() {
         return removeOperationIdPrefix;
     }
@@ -3228,11 +4271,6 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (name == null) {
             LOGGER.warn("String to be sanitized is null. Default to " + Object.class.getSimpleName());
@@ -3244,36 +4282,58 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
+        // input[] => input, input[a][b] => input_a_b, input(a)(b) => input_a_b, input.name => input_name,
+        // input-name => input_name, input name and age => input_name_and_age
+        // then remove everything else other than word, number and _ ($php_variable => php_variable)
+        return sanitizeNameCharacters(name, true);
+    }
 
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        }
-        else {
-            name = name.replaceAll("\\W", "");
+    /**
+     * Replace the characters separating parts of a name by underscores in a single pass: "[]" and closing brackets
+     * or parentheses are removed, "[", "(", ".", "-" and spaces become "_".
+     *
+     * @param name the name to be sanitized
+     * @param removeNonWordCharacters whether other characters than letters, digits and "_" should be removed as well
+     * @return sanitized name
+     */
+    protected String sanitizeNameCharacters(String name, boolean removeNonWordCharacters) {
+        if (removeNonWordCharacters && allowUnicodeIdentifiers && !StringUtils.isAsciiPrintable(name)) {
+            // unicode word characters are left to the regular expression, once the separators are replaced
+            return UNICODE_NON_WORD_CHARACTER.matcher(sanitizeNameCharacters(name, false)).replaceAll("");
+        }
+        final int length = name.length();
+        StringBuilder builder = null;
+        for (int i = 0; i < length; i++) {
+            final char c = name.charAt(i);
+            char replacement = c;
+            if (c == '[') {
+                if (i + 1 < length && name.charAt(i + 1) == ']') {
+                    builder = startReplacing(builder, name, i);
+                    i++;
+                    continue;
+                }
+                replacement = '_';
+            } else if (c == '(' || c == '.' || c == '-' || c == ' ') {
+                replacement = '_';
+            } else if (c == ']' || c == ')' || (removeNonWordCharacters && !isAsciiWordCharacter(c))) {
+                builder = startReplacing(builder, name, i);
+                continue;
+            }
+            if (replacement != c) {
+                builder = startReplacing(builder, name, i);
+            }
+            if (builder != null) {
+                builder.append(replacement);
+            }
         }
+        return builder == null ? name : builder.toString();
+    }
 
-        return name;
+    private static StringBuilder startReplacing(StringBuilder builder, String name, int index) {
+        if (builder != null) {
+            return builder;
+        }
+        return new StringBuilder(name.length()).append(name, 0, index);
     }
 
     /**
@@ -3293,6 +4353,16 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return tag;
     }
 
+    /**
+     * @param templateFile template file, e.g. model.mustache
+     * @return the template compiled with the helpers of this generator, shared with the generations using the same
+     * templates (see {@link TemplateCache})
+     * @throws IOException if the template can't be found or read
+     */
+    public Template getCompiledTemplate(String templateFile) throws IOException {
+        return TemplateCache.getInstance().getTemplate(this, templateFile);
+    }
+
     @Override
     public void addHandlebarHelpers(Handlebars handlebars) {
         handlebars.registerHelper(IsHelper.NAME, new IsHelper());
@@ -3309,15 +4379,45 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (StringUtils.isBlank(argumentsLocation)) {
             return null;
         }
-        final InputStream inputStream = getClass().getResourceAsStream(argumentsLocation);
-        if (inputStream == null) {
+        final URL resource = getClass().getResource(argumentsLocation);
+        if (resource == null) {
+            return null;
+        }
+        Optional<List<ArgumentDefinition>> definitions = ARGUMENT_DEFINITIONS.get(resource.toString());
+        if (definitions == null) {
+            definitions = readArgumentDefinitions(resource);
+            if (definitions == null) {
+                // not cached, reading may work next time
+                return null;
+            }
+            ARGUMENT_DEFINITIONS.putIfAbsent(resource.toString(), definitions);
+        }
+        if (!definitions.isPresent()) {
             return null;
         }
+        // new arguments every time, their values are set by each generation
+        List<CodegenArgument> languageArguments = new ArrayList<>();
+        for (ArgumentDefinition definition : definitions.get()) {
+            languageArguments.add(new CodegenArgument()
+                    .option(definition.option)
+                    .shortOption(definition.shortOption)
+                    .description(definition.description)
+                    .type(definition.type)
+                    .isArray(definition.isArray));
+        }
+        return languageArguments;
+    }
+
+    /**
+     * @param resource arguments resource
+     * @return the arguments defined in the resource, empty if it defines none, null if it could not be read
+     */
+    private static Optional<List<ArgumentDefinition>> readArgumentDefinitions(URL resource) {
         final String content;
-        try {
+        try (InputStream inputStream = resource.openStream()) {
             content = IOUtils.toString(inputStream);
             if (StringUtils.isBlank(content)) {
-                return null;
+                return Optional.empty();
             }
         } catch (IOException e) {
             LOGGER.error("Could not read arguments for java language.", e);
@@ -3327,17 +4427,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         try {
             rootNode = Yaml.mapper().readTree(content.getBytes());
             if (rootNode == null) {
-                return null;
+                return Optional.empty();
             }
         } catch (IOException e) {
             LOGGER.error("Could not parse java arguments content.", e);
-            return null;
+            return Optional.empty();
         }
         JsonNode arguments = rootNode.findValue("arguments");
         if (arguments == null || !arguments.isArray()) {
-            return null;
+            return Optional.empty();
         }
-        List<CodegenArgument> languageArguments = new ArrayList<>();
+        List<ArgumentDefinition> definitions = new ArrayList<>();
         for (JsonNode argument : arguments) {
             String option = argument.findValue("option") != null ? argument.findValue("option").textValue() : null;
             String description = argument.findValue("description") != null ? argument.findValue("description").textValue() : null;
@@ -3347,14 +4447,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if (StringUtils.isBlank(option)) {
                 continue;
             }
-            languageArguments.add(new CodegenArgument()
-                    .option(option)
-                    .shortOption(shortOption)
-                    .description(description)
-                    .type(type)
-                    .isArray(isArray));
+            definitions.add(new ArgumentDefinition(option, shortOption, description, type, isArray));
         }
-        return languageArguments;
+        return Optional.of(Collections.unmodifiableList(definitions));
     }
 
     @Override
@@ -3613,16 +4708,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenSecurity.scopes = flow.getScopes();
     }
 
-    private List<Schema> getInterfaces(ComposedSchema composed) {
-        if(composed.getAllOf() != null && composed.getAllOf().size() > 1) {
-            return composed.getAllOf().subList(1, composed.getAllOf().size());
-        } else if(composed.getAnyOf() != null && !composed.getAnyOf().isEmpty()) {
-            return composed.getAnyOf();
-        } else if(composed.getOneOf() != null && !composed.getOneOf().isEmpty()) {
-            return composed.getOneOf();
-        } else {
-            return null;
-        }
+    protected List<Schema> getInterfaces(ComposedSchema composed) {
+        return SchemaIndex.interfacesOf(composed);
     }
 
     protected void addConsumesInfo(Operation operation, CodegenOperation codegenOperation) {
@@ -3689,6 +4776,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected Schema detectParent(ComposedSchema composedSchema, Map<String, Schema> allSchemas) {
+        final SchemaIndex index = getSchemaIndex(allSchemas);
+        if (index != null && index.isIndexed(composedSchema)) {
+            final String parentName = index.getParentName(composedSchema);
+            return parentName == null ? null : allSchemas.get(parentName);
+        }
         if (composedSchema.getAllOf() != null && !composedSchema.getAllOf().isEmpty()) {
             Schema schema = composedSchema.getAllOf().get(0);
             String ref = schema.get$ref();
@@ -3702,6 +4794,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected String getParentName(ComposedSchema composedSchema, Map<String, Schema> allSchemas) {
+        final SchemaIndex index = getSchemaIndex(allSchemas);
+        if (index != null && index.isIndexed(composedSchema)) {
+            return index.getParentName(composedSchema);
+        }
         if (composedSchema.getAllOf() != null && !composedSchema.getAllOf().isEmpty()) {
             Schema schema = composedSchema.getAllOf().get(0);
             String ref = schema.get$ref();
@@ -3714,10 +4810,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected String getSimpleRef(String ref) {
-        if (ref.startsWith("#/components/")) {
-            ref = ref.substring(ref.lastIndexOf("/") + 1);
-        }
-        return ref;
+        final GenerationContext context = getGenerationContext();
+        return context != null ? context.getSchemaIndex().getSimpleRef(ref) : SchemaIndex.toSimpleRef(ref);
+    }
+
+    /**
+     * @param allSchemas a map of all Swagger models from the spec
+     * @return the index of the schemas of the current run, null if the run isn't for the given schemas
+     */
+    protected SchemaIndex getSchemaIndex(Map<String, Schema> allSchemas) {
+        final GenerationContext context = getGenerationContext();
+        return context != null && context.hasSchemas() && context.isFor(allSchemas) ? context.getSchemaIndex() : null;
     }
 
     protected String getCollectionFormat(Parameter parameter) {
@@ -0,0 +1,148 @@
+package io.swagger.codegen.languages;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Vendor extensions map keeping the well known boolean flags ({@link CodegenFlag}) as a set of bits, updated on
+ * every change of the map, so that templates can test them without parsing the extension values.
+ *
+ * All the extensions stay in the wrapped map, which keeps its iteration order; a flag is set when its extension
+ * holds a value whose string representation is "true", ignoring case, like with {@link Boolean#parseBoolean(String)}.
+ */
+public class FlagMap extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> extensions;
+    private final EnumSet<CodegenFlag> flags = EnumSet.noneOf(CodegenFlag.class);
+    private Set<Entry<String, Object>> entrySet;
+
+    public FlagMap() {
+        this(new HashMap<>());
+    }
+
+    /**
+     * @param extensions map holding the extensions, wrapped as is and no longer to be changed directly
+     */
+    public FlagMap(Map<String, Object> extensions) {
+        this.extensions = extensions;
+        for (Entry<String, Object> entry : extensions.entrySet()) {
+            updateFlag(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * @param flag a well known flag
+     * @return whether the flag is set to true
+     */
+    public boolean isSet(CodegenFlag flag) {
+        return flags.contains(flag);
+    }
+
+    @Override
+    public int size() {
+        return extensions.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return extensions.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return extensions.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final Object previous = extensions.put(key, value);
+        updateFlag(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final Object previous = extensions.remove(key);
+        if (key instanceof String) {
+            updateFlag((String) key, null);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        extensions.clear();
+        flags.clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void updateFlag(String key, Object value) {
+        final CodegenFlag flag = CodegenFlag.forExtension(key);
+        if (flag == null) {
+            return;
+        }
+        if (value != null && Boolean.parseBoolean(value.toString())) {
+            flags.add(flag);
+        } else {
+            flags.remove(flag);
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return extensions.size();
+        }
+
+        @Override
+        public void clear() {
+            FlagMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            final Iterator<Entry<String, Object>> iterator = extensions.entrySet().iterator();
+            return new Iterator<Entry<String, Object>>() {
+                private Entry<String, Object> last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    final Entry<String, Object> entry = iterator.next();
+                    last = entry;
+                    return new SimpleEntry<String, Object>(entry) {
+                        @Override
+                        public Object setValue(Object value) {
+                            super.setValue(value);
+                            updateFlag(entry.getKey(), value);
+                            return entry.setValue(value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    updateFlag(last.getKey(), null);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.swagger.codegen.languages;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the rendered files of a generation. A file already in the output folder is left untouched when
+ * {@link DefaultCodegenConfig#isSkipOverwrite()} is set, as well as, with {@link DefaultCodegenConfig#SKIP_UNCHANGED_FILES},
+ * when its content is the rendered one: its modification time doesn't change, so that the builds of the generated
+ * code don't compile it again.
+ *
+ * Files can be written concurrently. The files written and skipped are counted, and recorded in the
+ * {@link GenerationMetrics} when enabled.
+ */
+public class GeneratedFileWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedFileWriter.class);
+
+    private final boolean skipOverwrite;
+    private final boolean skipUnchanged;
+    private final GenerationMetrics metrics;
+    private final List<File> writtenFiles = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /**
+     * @param skipOverwrite whether existing files are left untouched
+     * @param skipUnchanged whether existing files with the rendered content are left untouched
+     * @param metrics measures of the generation, null if disabled
+     */
+    public GeneratedFileWriter(boolean skipOverwrite, boolean skipUnchanged, GenerationMetrics metrics) {
+        this.skipOverwrite = skipOverwrite;
+        this.skipUnchanged = skipUnchanged;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param filename path of the file
+     * @param content rendered content
+     * @return whether the file was written
+     * @throws IOException if the file can't be read or written
+     */
+    public boolean write(String filename, String content) throws IOException {
+        return write(filename, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param filename path of the file
+     * @param content rendered content, or content of a file copied as is
+     * @return whether the file was written
+     * @throws IOException if the file can't be read or written
+     */
+    public boolean write(String filename, byte[] content) throws IOException {
+        final File file = new File(filename);
+        try (GenerationMetrics.Timer timer = metrics == null ? null : metrics.start(GenerationMetrics.WRITE, filename)) {
+            if (file.exists() && (skipOverwrite || (skipUnchanged && hasContent(file, content)))) {
+                LOGGER.debug("Skipped writing " + filename + (skipOverwrite ? " as the file already exists" : " as it is unchanged"));
+                skipped.incrementAndGet();
+                increment(GenerationMetrics.FILES_SKIPPED);
+                return false;
+            }
+            final File folder = file.getAbsoluteFile().getParentFile();
+            if (folder != null) {
+                folder.mkdirs();
+            }
+            Files.write(file.toPath(), content);
+            writtenFiles.add(file);
+            increment(GenerationMetrics.FILES_WRITTEN);
+            return true;
+        }
+    }
+
+    // the file is read only when its size is the one of the content
+    private static boolean hasContent(File file, byte[] content) throws IOException {
+        return file.isFile() && file.length() == content.length && Arrays.equals(Files.readAllBytes(file.toPath()), content);
+    }
+
+    private void increment(String counter) {
+        if (metrics != null) {
+            metrics.increment(counter, 1);
+        }
+    }
+
+    /**
+     * @return files written, in the order they were written
+     */
+    public List<File> getWrittenFiles() {
+        synchronized (writtenFiles) {
+            return new ArrayList<>(writtenFiles);
+        }
+    }
+
+    /**
+     * @return number of files written
+     */
+    public int getWrittenCount() {
+        return writtenFiles.size();
+    }
+
+    /**
+     * @return number of files left untouched
+     */
+    public int getSkippedCount() {
+        return skipped.get();
+    }
+
+    /**
+     * Log the number of files written and skipped.
+     */
+    public void report() {
+        LOGGER.info("Wrote " + getWrittenCount() + " files, skipped " + getSkippedCount() + " unchanged or existing files");
+    }
+}
@@ -0,0 +1,199 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.SupportingFile;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * State computed once per generation run from the whole specification and shared, read only, by the conversion of
+ * every model. Apart from results memoized along the run, it never changes, so it can be used by models converted
+ * concurrently.
+ *
+ * A context created by {@link #newRun(Map, List)} also carries the state a run changes (additional properties,
+ * supporting files), copied from the configuration of the generator, so that several runs of the same generator
+ * don't see each other's changes (see {@link DefaultCodegenConfig#startRun()}).
+ */
+public class GenerationContext {
+
+    private final Map<String, Schema> source;
+    private final Map<String, Schema> schemas;
+    private final SchemaIndex schemaIndex;
+    // state of the run, null for contexts which aren't runs
+    private final Map<String, Object> additionalProperties;
+    private final List<SupportingFile> supportingFiles;
+    private final Map<String, Object> runData;
+    // memoized results of computations on the schemas, which never change during a run
+    private final Map<Schema, FlattenedProperties> flattenedProperties = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<String, CodegenModel> parentModels = Collections.synchronizedMap(new HashMap<>());
+
+    /**
+     * @param schemas all the schemas (component models) of the specification, may be null
+     */
+    public GenerationContext(Map<String, Schema> schemas) {
+        this(schemas, null, null, null);
+    }
+
+    private GenerationContext(Map<String, Schema> schemas, Map<String, Object> additionalProperties,
+                              List<SupportingFile> supportingFiles, Map<String, Object> runData) {
+        this.source = schemas;
+        this.schemas = schemas == null ? Collections.emptyMap() : Collections.unmodifiableMap(schemas);
+        this.schemaIndex = new SchemaIndex(schemas);
+        this.additionalProperties = additionalProperties;
+        this.supportingFiles = supportingFiles;
+        this.runData = runData;
+    }
+
+    /**
+     * Start a run, before the specification is known.
+     *
+     * @param additionalProperties additional properties configured on the generator, copied
+     * @param supportingFiles supporting files configured on the generator, copied
+     * @return the context of the new run, without schemas
+     */
+    public static GenerationContext newRun(Map<String, Object> additionalProperties, List<SupportingFile> supportingFiles) {
+        return new GenerationContext(null, new HashMap<>(additionalProperties), new ArrayList<>(supportingFiles), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * @param schemas all the schemas of the specification, may be null
+     * @return a context for the schemas, part of the same run as this context
+     */
+    public GenerationContext withSchemas(Map<String, Schema> schemas) {
+        return new GenerationContext(schemas, additionalProperties, supportingFiles, runData);
+    }
+
+    /**
+     * @return all the schemas of the specification
+     */
+    public Map<String, Schema> getSchemas() {
+        return schemas;
+    }
+
+    /**
+     * @return mapping from model name to the simple type the model is an alias of
+     */
+    public Map<String, String> getTypeAliases() {
+        return schemaIndex.getAliases();
+    }
+
+    /**
+     * @return relationships between the schemas of the specification
+     */
+    public SchemaIndex getSchemaIndex() {
+        return schemaIndex;
+    }
+
+    /**
+     * @return whether the context was created for a map of schemas
+     */
+    public boolean hasSchemas() {
+        return source != null;
+    }
+
+    /**
+     * @return whether the context is the one of a run, carrying its additional properties and supporting files
+     */
+    public boolean isRun() {
+        return runData != null;
+    }
+
+    /**
+     * @return additional properties of the run, null if the context isn't a run
+     */
+    public Map<String, Object> getAdditionalProperties() {
+        return additionalProperties;
+    }
+
+    /**
+     * @return supporting files of the run, null if the context isn't a run
+     */
+    public List<SupportingFile> getSupportingFiles() {
+        return supportingFiles;
+    }
+
+    /**
+     * Data kept by a generator for the length of the run, e.g. indexes of what was generated so far.
+     *
+     * @param key key of the data
+     * @param initializer creates the data on first use in the run
+     * @param <T> type of the data
+     * @return the data of the run
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getRunData(String key, Supplier<T> initializer) {
+        if (runData == null) {
+            throw new IllegalStateException("Not the context of a run");
+        }
+        return (T) runData.computeIfAbsent(key, k -> initializer.get());
+    }
+
+    /**
+     * @param schemas map of schemas
+     * @return whether this context was created for the given map of schemas
+     */
+    public boolean isFor(Map<String, Schema> schemas) {
+        return source == schemas;
+    }
+
+    /**
+     * Properties of a schema including the ones inherited through allOf and $ref, flattened once per run.
+     *
+     * @param schema the schema
+     * @param flattener computes the properties when not flattened yet
+     * @return the flattened properties
+     */
+    public FlattenedProperties getFlattenedProperties(Schema schema, Function<Schema, FlattenedProperties> flattener) {
+        FlattenedProperties properties = flattenedProperties.get(schema);
+        if (properties == null) {
+            // computed outside of the lock, as flattening recursively flattens parents
+            properties = flattener.apply(schema);
+            flattenedProperties.put(schema, properties);
+        }
+        return properties;
+    }
+
+    /**
+     * Parent model converted on its own, once per run whatever the number of its children. The returned model is
+     * shared by all the children and must not be modified.
+     *
+     * @param name name of the parent schema
+     * @param converter converts the parent schema when not converted yet
+     * @return the converted parent model
+     */
+    public CodegenModel getParentModel(String name, Function<String, CodegenModel> converter) {
+        CodegenModel model = parentModels.get(name);
+        if (model == null) {
+            model = converter.apply(name);
+            parentModels.put(name, model);
+        }
+        return model;
+    }
+
+    public static class FlattenedProperties {
+        private final Map<String, Schema> properties;
+        private final List<String> required;
+
+        public FlattenedProperties(Map<String, Schema> properties, List<String> required) {
+            this.properties = Collections.unmodifiableMap(properties);
+            this.required = Collections.unmodifiableList(required);
+        }
+
+        public Map<String, Schema> getProperties() {
+            return properties;
+        }
+
+        public List<String> getRequired() {
+            return required;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fingerprints of the configuration, models and APIs used by the last generation into an output folder, stored in
+ * that folder to allow incremental generation.
+ */
+public class GenerationManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    public static final String FILENAME = ".swagger-codegen-manifest";
+
+    private String configuration;
+    private Map<String, String> models = new TreeMap<>();
+    private Map<String, String> apis = new TreeMap<>();
+
+    /**
+     * Read the manifest of the given output folder.
+     *
+     * @param outputFolder the output folder
+     * @return the manifest of the last generation, an empty one if there was none or it can't be read
+     */
+    public static GenerationManifest read(String outputFolder) {
+        final File file = new File(outputFolder, FILENAME);
+        if (!file.isFile()) {
+            return new GenerationManifest();
+        }
+        try {
+            return Json.mapper().readValue(file, GenerationManifest.class);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read generation manifest " + file + ", generating everything", e);
+            return new GenerationManifest();
+        }
+    }
+
+    /**
+     * Write the manifest into the given output folder.
+     *
+     * @param outputFolder the output folder
+     */
+    public void write(String outputFolder) {
+        final File file = new File(outputFolder, FILENAME);
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            Json.mapper().writerWithDefaultPrettyPrinter().writeValue(file, this);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write generation manifest " + file, e);
+        }
+    }
+
+    public String getConfiguration() {
+        return configuration;
+    }
+
+    public void setConfiguration(String configuration) {
+        this.configuration = configuration;
+    }
+
+    public Map<String, String> getModels() {
+        return models;
+    }
+
+    public void setModels(Map<String, String> models) {
+        this.models = new TreeMap<>(models);
+    }
+
+    public Map<String, String> getApis() {
+        return apis;
+    }
+
+    public void setApis(Map<String, String> apis) {
+        this.apis = new TreeMap<>(apis);
+    }
+}
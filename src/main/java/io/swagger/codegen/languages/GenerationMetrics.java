@@ -0,0 +1,286 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.v3.core.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Time, allocated bytes and count of the phases of a generation (see the constants), and of the items
+ * (models, operations, templates...) of each phase, plus counters. Enabled by the
+ * {@link DefaultCodegenConfig#GENERATION_METRICS} option, written as JSON next to the generated files.
+ *
+ * A phase started again on the thread already in it, like a generator calling the conversion of its super class, is
+ * not measured twice: only the outer call counts. Threads converting concurrently record their own time.
+ */
+public class GenerationMetrics {
+
+    public static final String FILE_NAME = "generation-metrics.json";
+
+    public static final String PREPROCESS_OPENAPI = "preprocessOpenAPI";
+    public static final String FROM_MODEL = "fromModel";
+    public static final String POST_PROCESS_MODELS_ENUM = "postProcessModelsEnum";
+    public static final String FROM_OPERATION = "fromOperation";
+    public static final String POST_PROCESS_OPERATIONS = "postProcessOperations";
+    public static final String RENDER = "render";
+    public static final String WRITE = "write";
+
+    public static final String PROPERTIES = "properties";
+    public static final String PARAMETERS = "parameters";
+    public static final String FILES_WRITTEN = "filesWritten";
+    public static final String FILES_SKIPPED = "filesSkipped";
+
+    private static final int DEFAULT_TOP = 10;
+    private static final Timer NO_TIMER = new Timer(null, null, null);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Phase> phases = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<String>> activePhases = ThreadLocal.withInitial(HashSet::new);
+    private final int top;
+
+    /**
+     * @param top number of slowest items listed for each phase
+     */
+    public GenerationMetrics(int top) {
+        this.top = top;
+    }
+
+    public GenerationMetrics() {
+        this(DEFAULT_TOP);
+    }
+
+    /**
+     * Start measuring a phase on the current thread.
+     *
+     * @param phase name of the phase
+     * @param item name of the model, operation or template processed, null if none
+     * @return timer to close at the end of the phase
+     */
+    public Timer start(String phase, String item) {
+        if (!activePhases.get().add(phase)) {
+            return NO_TIMER;
+        }
+        return new Timer(this, phase, item);
+    }
+
+    /**
+     * @param phase name of the phase
+     * @param item name of the model, operation or template processed, null if none
+     * @param action the phase
+     * @param <T> type of the result
+     * @return result of the phase
+     */
+    public <T> T time(String phase, String item, Supplier<T> action) {
+        try (Timer timer = start(phase, item)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Same as {@link #time(String, String, Supplier)}, also counting what the phase produced, e.g. the properties of
+     * a model. Like the time, the count is only recorded by the outermost phase, not by the phases nested into it.
+     *
+     * @param phase name of the phase
+     * @param item name of the model, operation or template processed, null if none
+     * @param action the phase
+     * @param counter name of the counter
+     * @param count value added to the counter for the result
+     * @param <T> type of the result
+     * @return result of the phase
+     */
+    public <T> T time(String phase, String item, Supplier<T> action, String counter, ToLongFunction<T> count) {
+        try (Timer timer = start(phase, item)) {
+            final T result = action.get();
+            if (timer != NO_TIMER && result != null) {
+                increment(counter, count.applyAsLong(result));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * @param counter name of the counter
+     * @param delta value added to the counter
+     */
+    public void increment(String counter, long delta) {
+        counters.computeIfAbsent(counter, key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    /**
+     * @param phase name of the phase
+     * @return number of times the phase was measured
+     */
+    public long getCount(String phase) {
+        final Phase metrics = phases.get(phase);
+        return metrics == null ? 0 : metrics.count.sum();
+    }
+
+    /**
+     * @param phase name of the phase
+     * @return names of the slowest items of the phase, slowest first
+     */
+    public List<String> getSlowest(String phase) {
+        final Phase metrics = phases.get(phase);
+        if (metrics == null) {
+            return Collections.emptyList();
+        }
+        final List<String> slowest = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : metrics.slowest(top)) {
+            slowest.add(entry.getKey());
+        }
+        return slowest;
+    }
+
+    /**
+     * @param counter name of the counter
+     * @return value of the counter
+     */
+    public long getCounter(String counter) {
+        final AtomicLong value = counters.get(counter);
+        return value == null ? 0 : value.get();
+    }
+
+    /**
+     * @return phases and counters, in the form written to JSON
+     */
+    public Map<String, Object> toMap() {
+        final Map<String, Object> phaseMaps = new TreeMap<>();
+        for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+            phaseMaps.put(entry.getKey(), entry.getValue().toMap(top));
+        }
+        final Map<String, Object> counterValues = new TreeMap<>();
+        for (Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+            counterValues.put(entry.getKey(), entry.getValue().get());
+        }
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("phases", phaseMaps);
+        map.put("counters", counterValues);
+        return map;
+    }
+
+    /**
+     * @param outputFolder folder of the generated files
+     * @return the file written
+     */
+    public File write(String outputFolder) {
+        final File file = new File(outputFolder, FILE_NAME);
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try {
+            Json.mapper().writerWithDefaultPrettyPrinter().writeValue(file, toMap());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write generation metrics to " + file, e);
+        }
+        return file;
+    }
+
+    private void record(String phase, String item, long nanos, long allocatedBytes) {
+        activePhases.get().remove(phase);
+        phases.computeIfAbsent(phase, key -> new Phase()).add(item, nanos, allocatedBytes);
+    }
+
+    // bytes allocated by the current thread so far, -1 when the JVM doesn't tell
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Measure of a phase started with {@link #start(String, String)}, closed on the thread which started it.
+     */
+    public static class Timer implements AutoCloseable {
+
+        private final GenerationMetrics metrics;
+        private final String phase;
+        private final String item;
+        private final long startNanos;
+        private final long startBytes;
+
+        private Timer(GenerationMetrics metrics, String phase, String item) {
+            this.metrics = metrics;
+            this.phase = phase;
+            this.item = item;
+            this.startNanos = metrics == null ? 0 : System.nanoTime();
+            this.startBytes = metrics == null ? 0 : allocatedBytes();
+        }
+
+        @Override
+        public void close() {
+            if (metrics == null) {
+                return;
+            }
+            final long nanos = System.nanoTime() - startNanos;
+            final long bytes = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+            metrics.record(phase, item, nanos, bytes);
+        }
+    }
+
+    private static class Phase {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        // time by item, for the slowest items
+        private final Map<String, Long> items = new ConcurrentHashMap<>();
+
+        void add(String item, long nanos, long bytes) {
+            count.increment();
+            this.nanos.add(nanos);
+            if (bytes > 0) {
+                allocatedBytes.add(bytes);
+            }
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (item != null) {
+                items.merge(item, nanos, Long::sum);
+            }
+        }
+
+        List<Map.Entry<String, Long>> slowest(int top) {
+            final List<Map.Entry<String, Long>> entries = new ArrayList<>(items.entrySet());
+            entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            return entries.subList(0, Math.min(top, entries.size()));
+        }
+
+        Map<String, Object> toMap(int top) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count.sum());
+            map.put("totalMillis", toMillis(nanos.sum()));
+            map.put("maxMillis", toMillis(maxNanos.get()));
+            map.put("allocatedBytes", allocatedBytes.sum());
+            final List<Map<String, Object>> slowest = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : slowest(top)) {
+                final Map<String, Object> item = new LinkedHashMap<>();
+                item.put("name", entry.getKey());
+                item.put("millis", toMillis(entry.getValue()));
+                slowest.add(item);
+            }
+            map.put("slowest", slowest);
+            return map;
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1000000.0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CliOption;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What is needed to list, describe and select a generator without creating it: its name, type, help and CLI options.
+ */
+public class GeneratorMetadata {
+
+    private String className;
+    private String name;
+    private String tag;
+    private String help;
+    private List<Option> options = new ArrayList<>();
+
+    /**
+     * @param config a generator
+     * @return the metadata of the generator
+     */
+    public static GeneratorMetadata of(CodegenConfig config) {
+        final GeneratorMetadata metadata = new GeneratorMetadata();
+        metadata.setClassName(config.getClass().getName());
+        metadata.setName(config.getName());
+        metadata.setTag(config.getTag() == null ? null : config.getTag().name());
+        metadata.setHelp(config.getHelp());
+        if (config.cliOptions() != null) {
+            for (CliOption cliOption : config.cliOptions()) {
+                metadata.getOptions().add(Option.of(cliOption));
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * @return the CLI options of the generator, as returned by {@link CodegenConfig#cliOptions()}
+     */
+    public List<CliOption> toCliOptions() {
+        final List<CliOption> cliOptions = new ArrayList<>();
+        for (Option option : options) {
+            cliOptions.add(option.toCliOption());
+        }
+        return cliOptions;
+    }
+
+    public CodegenType getCodegenType() {
+        return tag == null ? null : CodegenType.valueOf(tag);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public void setHelp(String help) {
+        this.help = help;
+    }
+
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    public void setOptions(List<Option> options) {
+        this.options = options;
+    }
+
+    public static class Option {
+        private String opt;
+        private String description;
+        private String type;
+        private String defaultValue;
+        private Map<String, String> enumValues;
+
+        static Option of(CliOption cliOption) {
+            final Option option = new Option();
+            option.setOpt(cliOption.getOpt());
+            option.setDescription(cliOption.getDescription());
+            option.setType(cliOption.getType());
+            option.setDefaultValue(cliOption.getDefault());
+            if (cliOption.getEnum() != null) {
+                option.setEnumValues(new LinkedHashMap<>(cliOption.getEnum()));
+            }
+            return option;
+        }
+
+        CliOption toCliOption() {
+            final CliOption cliOption = new CliOption(opt, description, type);
+            cliOption.setDefault(defaultValue);
+            if (enumValues != null) {
+                cliOption.setEnum(new LinkedHashMap<>(enumValues));
+            }
+            return cliOption;
+        }
+
+        public String getOpt() {
+            return opt;
+        }
+
+        public void setOpt(String opt) {
+            this.opt = opt;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getDefaultValue() {
+            return defaultValue;
+        }
+
+        public void setDefaultValue(String defaultValue) {
+            this.defaultValue = defaultValue;
+        }
+
+        public Map<String, String> getEnumValues() {
+            return enumValues;
+        }
+
+        public void setEnumValues(Map<String, String> enumValues) {
+            this.enumValues = enumValues;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.swagger.codegen.languages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Generators registered in META-INF/services, listed from the index written at build time (see {@link #main(String[])})
+ * so that only the selected generator gets created. Generators of jars without index are created once to read their
+ * metadata.
+ */
+public class GeneratorRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorRegistry.class);
+
+    public static final String INDEX_LOCATION = "META-INF/swagger-codegen/generators.json";
+    public static final String SERVICES_LOCATION = "META-INF/services/" + CodegenConfig.class.getName();
+
+    private final ClassLoader classLoader;
+    private final Map<String, GeneratorMetadata> generators = new LinkedHashMap<>();
+
+    /**
+     * @param classLoader class loader of the generators
+     */
+    public GeneratorRegistry(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        final Map<String, GeneratorMetadata> indexed = readIndexes(classLoader);
+        for (String className : readServices(classLoader)) {
+            GeneratorMetadata metadata = indexed.get(className);
+            if (metadata == null) {
+                LOGGER.debug("No index entry for generator " + className + ", creating it");
+                metadata = GeneratorMetadata.of(newInstance(className));
+            }
+            // the first generator of a name is the one the CodegenConfigLoader creates
+            final GeneratorMetadata registered = generators.putIfAbsent(metadata.getName(), metadata);
+            if (registered != null) {
+                LOGGER.warn("Generator " + className + " ignored, " + registered.getClassName() + " is already registered with name '"
+                        + metadata.getName() + "'");
+            }
+        }
+    }
+
+    public GeneratorRegistry() {
+        this(GeneratorRegistry.class.getClassLoader());
+    }
+
+    /**
+     * @return metadata of all the registered generators
+     */
+    public List<GeneratorMetadata> getGenerators() {
+        return Collections.unmodifiableList(new ArrayList<>(generators.values()));
+    }
+
+    /**
+     * @param name name of a generator
+     * @return metadata of the generator, null if there is none with the name
+     */
+    public GeneratorMetadata getGenerator(String name) {
+        return generators.get(name);
+    }
+
+    /**
+     * Create a generator, the way the CodegenConfigLoader does: a registered generator with the given name, otherwise
+     * the generator class with the given name.
+     *
+     * @param name name or class name of a generator
+     * @return a new instance of the generator
+     */
+    public CodegenConfig create(String name) {
+        final GeneratorMetadata metadata = generators.get(name);
+        return newInstance(metadata != null ? metadata.getClassName() : name);
+    }
+
+    private CodegenConfig newInstance(String className) {
+        try {
+            return (CodegenConfig) Class.forName(className, true, classLoader).getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Can't load config class with name '" + className + "'", e);
+        }
+    }
+
+    private static Set<String> readServices(ClassLoader classLoader) {
+        final Set<String> classNames = new LinkedHashSet<>();
+        for (String content : readResources(classLoader, SERVICES_LOCATION)) {
+            for (String line : content.split("\n")) {
+                final String className = StringUtils.substringBefore(line, "#").trim();
+                if (!className.isEmpty()) {
+                    classNames.add(className);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static Map<String, GeneratorMetadata> readIndexes(ClassLoader classLoader) {
+        final Map<String, GeneratorMetadata> indexed = new LinkedHashMap<>();
+        for (String content : readResources(classLoader, INDEX_LOCATION)) {
+            try {
+                final List<GeneratorMetadata> generators = Json.mapper().readValue(content, new TypeReference<List<GeneratorMetadata>>() {
+                });
+                for (GeneratorMetadata metadata : generators) {
+                    indexed.put(metadata.getClassName(), metadata);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not parse generator index, creating its generators", e);
+            }
+        }
+        return indexed;
+    }
+
+    private static List<String> readResources(ClassLoader classLoader, String location) {
+        final List<String> contents = new ArrayList<>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(location);
+            while (resources.hasMoreElements()) {
+                try (InputStream inputStream = resources.nextElement().openStream()) {
+                    contents.add(IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + location, e);
+        }
+        return contents;
+    }
+
+    /**
+     * Write the index of the generators of this module, run at build time.
+     *
+     * @param args the output folder of the classes
+     * @throws IOException if the index can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        final List<GeneratorMetadata> generators = new ArrayList<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, GeneratorRegistry.class.getClassLoader())) {
+            generators.add(GeneratorMetadata.of(config));
+        }
+        final File index = new File(args[0], INDEX_LOCATION);
+        index.getParentFile().mkdirs();
+        Json.mapper().writerWithDefaultPrettyPrinter().writeValue(index, generators);
+        LOGGER.info("Wrote index of " + generators.size() + " generators to " + index);
+    }
+}
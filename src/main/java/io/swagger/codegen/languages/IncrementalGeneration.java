@@ -0,0 +1,331 @@
+package io.swagger.codegen.languages;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Decides which models and APIs need to be generated again, comparing fingerprints of the spec with the
+ * {@link GenerationManifest} left in the output folder by the previous generation.
+ *
+ * A model is generated when its schema changed, when it references, directly or not, a schema which changed, or
+ * when one of its children changed, was added or removed. An API (all operations of a tag) is generated when one of
+ * its operations changed, was added or removed, or references a changed schema, parameter, request body or response.
+ * Everything is generated when the configuration (options and templates) changed. The models and APIs of the
+ * previous generation no longer in the spec are reported, see {@link DefaultCodegenConfig#deleteRemovedFiles}.
+ */
+public class IncrementalGeneration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalGeneration.class);
+
+    private final String outputFolder;
+    private final GenerationManifest previous;
+    private final GenerationManifest current = new GenerationManifest();
+    private final boolean configurationChanged;
+    private final Set<String> changedModels = new HashSet<>();
+    private final Set<String> changedApis = new HashSet<>();
+    private final Set<String> removedModels = new TreeSet<>();
+    private final Set<String> removedApis = new TreeSet<>();
+
+    /**
+     * @param outputFolder folder holding the manifest of the previous generation
+     * @param openAPI the spec being generated
+     * @param configurationFingerprint fingerprint of the generator options and templates
+     * @param tagNamer naming of the API of a tag, e.g. {@link DefaultCodegenConfig#sanitizeTag(String)}
+     */
+    public IncrementalGeneration(String outputFolder, OpenAPI openAPI, String configurationFingerprint, Function<String, String> tagNamer) {
+        this.outputFolder = outputFolder;
+        this.previous = GenerationManifest.read(outputFolder);
+        this.current.setConfiguration(configurationFingerprint);
+        this.configurationChanged = !StringUtils.equals(previous.getConfiguration(), configurationFingerprint);
+
+        final Map<String, Schema> schemas = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null
+                ? openAPI.getComponents().getSchemas() : new HashMap<>();
+
+        // schemas changed since last generation, then all their dependents: the schemas referencing them and their
+        // parents, whose models list their children
+        final SchemaIndex schemaIndex = new SchemaIndex(schemas);
+        final Map<String, String> modelFingerprints = new TreeMap<>();
+        final Map<String, Set<String>> referencedBy = new HashMap<>();
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final List<String> children = schemaIndex.getChildren(entry.getKey());
+            // a child added or removed changes its parent
+            final String fingerprint = children.isEmpty() ? fingerprint(entry.getValue())
+                    : hash(toJson(entry.getValue()) + '\n' + children);
+            modelFingerprints.put(entry.getKey(), fingerprint);
+            if (configurationChanged || !fingerprint.equals(previous.getModels().get(entry.getKey()))) {
+                changedModels.add(entry.getKey());
+            }
+            for (String ref : collectReferences(entry.getValue(), new HashSet<>())) {
+                referencedBy.computeIfAbsent(ref, key -> new HashSet<>()).add(entry.getKey());
+            }
+            for (String child : children) {
+                referencedBy.computeIfAbsent(child, key -> new HashSet<>()).add(entry.getKey());
+            }
+        }
+        final Deque<String> pending = new ArrayDeque<>(changedModels);
+        while (!pending.isEmpty()) {
+            final Set<String> dependents = referencedBy.get(pending.pop());
+            if (dependents == null) {
+                continue;
+            }
+            for (String dependent : dependents) {
+                if (changedModels.add(dependent)) {
+                    pending.push(dependent);
+                }
+            }
+        }
+        current.setModels(modelFingerprints);
+
+        // operations grouped by API, an API changes with any of its operations, the parameters, request bodies and
+        // responses of the components they use, or the schemas they use
+        final Components components = openAPI.getComponents() != null ? openAPI.getComponents() : new Components();
+        final Map<String, StringBuilder> apiContents = new LinkedHashMap<>();
+        final Set<String> apisUsingChangedModels = new HashSet<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> pathEntry : openAPI.getPaths().entrySet()) {
+                final PathItem pathItem = pathEntry.getValue();
+                for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : pathItem.readOperationsMap().entrySet()) {
+                    final Operation operation = operationEntry.getValue();
+                    final Map<String, Object> resolved = new TreeMap<>();
+                    final Set<String> references = collectReferences(pathItem.getParameters(), operation, components, resolved);
+                    final String content = pathEntry.getKey() + ' ' + operationEntry.getKey() + ' ' + toJson(operation) + ' '
+                            + toJson(pathItem.getParameters()) + ' ' + toJson(resolved) + '\n';
+                    final List<String> tags = operation.getTags();
+                    for (String tag : tags == null || tags.isEmpty() ? Collections.singletonList(DefaultCodegenConfig.DEFAULT_TAG) : tags) {
+                        final String api = tagNamer.apply(tag);
+                        apiContents.computeIfAbsent(api, key -> new StringBuilder()).append(content);
+                        for (String reference : references) {
+                            if (changedModels.contains(reference)) {
+                                apisUsingChangedModels.add(api);
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        final Map<String, String> apiFingerprints = new TreeMap<>();
+        for (Map.Entry<String, StringBuilder> entry : apiContents.entrySet()) {
+            final String fingerprint = hash(entry.getValue().toString());
+            apiFingerprints.put(entry.getKey(), fingerprint);
+            if (configurationChanged || apisUsingChangedModels.contains(entry.getKey())
+                    || !fingerprint.equals(previous.getApis().get(entry.getKey()))) {
+                changedApis.add(entry.getKey());
+            }
+        }
+        current.setApis(apiFingerprints);
+
+        removedModels.addAll(previous.getModels().keySet());
+        removedModels.removeAll(modelFingerprints.keySet());
+        removedApis.addAll(previous.getApis().keySet());
+        removedApis.removeAll(apiFingerprints.keySet());
+        if (!removedModels.isEmpty() || !removedApis.isEmpty()) {
+            LOGGER.warn("Models " + removedModels + " and APIs " + removedApis + " of the previous generation are no longer in the spec");
+        }
+    }
+
+    /**
+     * @param name name of the schema in the spec
+     * @return whether the model must be generated
+     */
+    public boolean isModelChanged(String name) {
+        return changedModels.contains(name);
+    }
+
+    /**
+     * @param api name of the API, as returned by the tag namer
+     * @return whether the API must be generated
+     */
+    public boolean isApiChanged(String api) {
+        return changedApis.contains(api);
+    }
+
+    public boolean isConfigurationChanged() {
+        return configurationChanged;
+    }
+
+    public Set<String> getChangedModels() {
+        return changedModels;
+    }
+
+    public Set<String> getChangedApis() {
+        return changedApis;
+    }
+
+    /**
+     * @return names of the models of the previous generation whose schema was removed from the spec
+     */
+    public Set<String> getRemovedModels() {
+        return removedModels;
+    }
+
+    /**
+     * @return names of the APIs of the previous generation without operations in the spec anymore
+     */
+    public Set<String> getRemovedApis() {
+        return removedApis;
+    }
+
+    /**
+     * Store the fingerprints of this generation, to be called once all files were written successfully.
+     */
+    public void complete() {
+        current.write(outputFolder);
+    }
+
+    /**
+     * @param value any Swagger object
+     * @return fingerprint of the JSON representation of the object
+     */
+    public static String fingerprint(Object value) {
+        return hash(toJson(value));
+    }
+
+    /**
+     * @param content any text
+     * @return hexadecimal SHA-256 digest of the text
+     */
+    public static String hash(String content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return Json.mapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not compute fingerprint", e);
+        }
+    }
+
+    /**
+     * Schemas used by an operation, through the components it references too.
+     *
+     * @param pathParameters parameters of the path of the operation, may be null
+     * @param operation the operation
+     * @param components components of the spec
+     * @param resolved collects the parameters, request bodies and responses of the components used, by reference
+     * @return simple names of the schemas used
+     */
+    private static Set<String> collectReferences(List<Parameter> pathParameters, Operation operation, Components components,
+                                                 Map<String, Object> resolved) {
+        final Set<String> references = new HashSet<>();
+        for (List<Parameter> parameters : Arrays.asList(pathParameters, operation.getParameters())) {
+            if (parameters != null) {
+                for (Parameter parameter : parameters) {
+                    parameter = resolve(parameter, Parameter::get$ref, components.getParameters(), resolved);
+                    collectReferences(parameter.getSchema(), references);
+                    collectReferences(parameter.getContent(), references);
+                }
+            }
+        }
+        if (operation.getRequestBody() != null) {
+            final RequestBody requestBody = resolve(operation.getRequestBody(), RequestBody::get$ref, components.getRequestBodies(), resolved);
+            collectReferences(requestBody.getContent(), references);
+        }
+        if (operation.getResponses() != null) {
+            for (ApiResponse response : operation.getResponses().values()) {
+                response = resolve(response, ApiResponse::get$ref, components.getResponses(), resolved);
+                collectReferences(response.getContent(), references);
+            }
+        }
+        return references;
+    }
+
+    // the component referenced by the object, the object itself if it's not a reference or the component is missing
+    private static <T> T resolve(T object, Function<T, String> ref, Map<String, T> components, Map<String, Object> resolved) {
+        T component = object;
+        // references to references, until a missing or already resolved one
+        while (component != null && ref.apply(component) != null && components != null) {
+            final String reference = ref.apply(component);
+            final T target = components.get(reference.substring(reference.lastIndexOf('/') + 1));
+            if (target == null || resolved.containsKey(reference)) {
+                return target != null ? target : component;
+            }
+            resolved.put(reference, target);
+            component = target;
+        }
+        return component;
+    }
+
+    private static void collectReferences(Content content, Set<String> references) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            collectReferences(mediaType.getSchema(), references);
+        }
+    }
+
+    private static Set<String> collectReferences(Schema schema, Set<String> references) {
+        if (schema == null) {
+            return references;
+        }
+        if (schema.get$ref() != null) {
+            references.add(schema.get$ref().substring(schema.get$ref().lastIndexOf('/') + 1));
+        }
+        if (schema.getProperties() != null) {
+            for (Object property : schema.getProperties().values()) {
+                collectReferences((Schema) property, references);
+            }
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectReferences((Schema) schema.getAdditionalProperties(), references);
+        }
+        collectReferences(schema.getNot(), references);
+        if (schema instanceof ArraySchema) {
+            collectReferences(((ArraySchema) schema).getItems(), references);
+        }
+        if (schema instanceof ComposedSchema) {
+            final ComposedSchema composed = (ComposedSchema) schema;
+            for (List<Schema> schemas : Arrays.asList(composed.getAllOf(), composed.getAnyOf(), composed.getOneOf())) {
+                if (schemas != null) {
+                    for (Schema inner : schemas) {
+                        collectReferences(inner, references);
+                    }
+                }
+            }
+        }
+        return references;
+    }
+}
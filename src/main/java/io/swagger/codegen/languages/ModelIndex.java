@@ -0,0 +1,90 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.v3.oas.models.media.Discriminator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Links between the models of a specification (parent, interfaces, children), read from the {@link SchemaIndex}
+ * without converting the models, so that models converted in batches (see
+ * {@link DefaultCodegenConfig#fromModels(Map, int, java.util.function.Consumer)}) get the links
+ * {@link DefaultCodegenConfig#postProcessAllModels(Map)} gives to the models converted all at once.
+ *
+ * Only names are kept: the index of 30000 models takes a few megabytes.
+ */
+public class ModelIndex {
+
+    private final SchemaIndex schemaIndex;
+    // by schema name
+    private final Map<String, List<String>> children = new HashMap<>();
+
+    /**
+     * @param schemaIndex index of the schemas of the specification
+     * @param names schema names of the models
+     */
+    public ModelIndex(SchemaIndex schemaIndex, Collection<String> names) {
+        this.schemaIndex = schemaIndex;
+        // like ModelUtils.processCodegenModels: a model is a child of its ancestors up to the first with a discriminator
+        for (String name : names) {
+            String parent = schemaIndex.getParent(name);
+            // bounded, in case of a cycle in the hierarchy
+            for (int depth = 0; parent != null && depth < names.size(); depth++) {
+                children.computeIfAbsent(parent, k -> new ArrayList<>()).add(name);
+                parent = schemaIndex.getDiscriminator(parent) != null ? null : schemaIndex.getParent(parent);
+            }
+        }
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema name of the parent of the model, null if it has none
+     */
+    public String getParent(String name) {
+        return schemaIndex.getParent(name);
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema names of the interfaces of the model
+     */
+    public List<String> getInterfaces(String name) {
+        return schemaIndex.getInterfaces(name);
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema names of the models whose parent is the model
+     */
+    public List<String> getDirectChildren(String name) {
+        return schemaIndex.getChildren(name);
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema names of the models listed as children of the model: its descendants up to the first ones
+     * having a parent with a discriminator
+     */
+    public List<String> getChildren(String name) {
+        return children.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @return schema names of the models having children, in the order of their first child
+     */
+    public List<String> getParents() {
+        return schemaIndex.getParents();
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return discriminator of the model, null if it has none
+     */
+    public Discriminator getDiscriminator(String name) {
+        return schemaIndex.getDiscriminator(name);
+    }
+}
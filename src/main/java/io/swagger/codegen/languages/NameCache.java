@@ -0,0 +1,140 @@
+package io.swagger.codegen.languages;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded memoization of the pure name transforms used by a code generator (e.g. toVarName, toModelName,
+ * camelize). Each transform gets its own LRU table holding at most <code>maxSize</code> entries.
+ *
+ * Entries are only valid for the configuration the generator had when they were computed, so the cache
+ * must be cleared whenever options affecting naming change (see {@link DefaultCodegenConfig#processOpts()}).
+ */
+public class NameCache {
+
+    public static final String VAR_NAME = "toVarName";
+    public static final String PARAM_NAME = "toParamName";
+    public static final String MODEL_NAME = "toModelName";
+    public static final String MODEL_FILENAME = "toModelFilename";
+    public static final String GETTER = "toGetter";
+    public static final String SETTER = "toSetter";
+    public static final String CAMELIZE = "camelize";
+    public static final String UNDERSCORE = "underscore";
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Map<String, Map<String, String>> tables = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile int maxSize;
+
+    public NameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize maximum number of entries per transform; zero or less disables caching
+     */
+    public NameCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return the memoized result of <code>transform</code> for <code>input</code>, computing and storing it
+     * on the first request. Null inputs are never cached.
+     *
+     * @param kind name of the transform, e.g. {@link #VAR_NAME}
+     * @param input the name to be transformed
+     * @param transform the transform to apply on a cache miss
+     * @return the transformed name
+     */
+    public String get(String kind, String input, Function<String, String> transform) {
+        if (input == null || maxSize <= 0) {
+            return transform.apply(input);
+        }
+        final Map<String, String> table = table(kind);
+        String result;
+        synchronized (table) {
+            result = table.get(input);
+        }
+        if (result != null) {
+            hits.incrementAndGet();
+            return result;
+        }
+        misses.incrementAndGet();
+        result = transform.apply(input);
+        if (result != null) {
+            synchronized (table) {
+                table.put(input, result);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, String> table(String kind) {
+        synchronized (tables) {
+            Map<String, String> table = tables.get(kind);
+            if (table == null) {
+                table = new LinkedHashMap<String, String>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                        return size() > maxSize;
+                    }
+                };
+                tables.put(kind, table);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Drop all memoized names, e.g. after options affecting naming have changed. Counters are kept.
+     */
+    public void clear() {
+        synchronized (tables) {
+            tables.clear();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public void resetCounters() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        clear();
+    }
+
+    /**
+     * @param kind name of the transform
+     * @return number of names currently memoized for the transform
+     */
+    public int size(String kind) {
+        final Map<String, String> table;
+        synchronized (tables) {
+            table = tables.get(kind);
+        }
+        if (table == null) {
+            return 0;
+        }
+        synchronized (table) {
+            return table.size();
+        }
+    }
+}
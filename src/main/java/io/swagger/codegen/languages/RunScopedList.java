@@ -0,0 +1,56 @@
+package io.swagger.codegen.languages;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * List reading and writing the list of the current generation run, see {@link DefaultCodegenConfig#startRun()}.
+ */
+class RunScopedList<E> extends AbstractList<E> {
+
+    private final Supplier<List<E>> current;
+
+    /**
+     * @param current returns the list of the current run, or the list of the generator outside of runs
+     */
+    RunScopedList(Supplier<List<E>> current) {
+        this.current = current;
+    }
+
+    @Override
+    public E get(int index) {
+        return current.get().get(index);
+    }
+
+    @Override
+    public int size() {
+        return current.get().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return current.get().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        current.get().add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return current.get().remove(index);
+    }
+
+    @Override
+    public void clear() {
+        current.get().clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return current.get().iterator();
+    }
+}
@@ -0,0 +1,66 @@
+package io.swagger.codegen.languages;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Map reading and writing the map of the current generation run, see {@link DefaultCodegenConfig#startRun()}.
+ */
+class RunScopedMap<K, V> extends AbstractMap<K, V> {
+
+    private final Supplier<Map<K, V>> current;
+
+    /**
+     * @param current returns the map of the current run, or the map of the generator outside of runs
+     */
+    RunScopedMap(Supplier<Map<K, V>> current) {
+        this.current = current;
+    }
+
+    @Override
+    public int size() {
+        return current.get().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return current.get().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return current.get().containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return current.get().get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return current.get().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return current.get().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        current.get().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        current.get().clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return current.get().entrySet();
+    }
+}
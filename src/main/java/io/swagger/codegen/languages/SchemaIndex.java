@@ -0,0 +1,302 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Relationships between the schemas of a specification, derived once per run (see {@link GenerationContext}) instead
+ * of on each lookup: simple names of the references, type aliases, parents and children, interfaces, discriminator
+ * owners and the schemas referencing each schema.
+ *
+ * Never changes once built, so it can be read by models converted concurrently.
+ */
+public class SchemaIndex {
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+
+    private final Map<String, Schema> schemas;
+    // the schemas indexed, to find out the ones replaced since
+    private final Map<String, Schema> indexed;
+    // simple name of every $ref of the schemas
+    private final Map<String, String> simpleRefs = new HashMap<>();
+    private final Map<String, String> aliases;
+    // parent name of each composed schema of the components, null if it has none
+    private final Map<Schema, String> parentNames = new IdentityHashMap<>();
+    private final Map<Schema, Boolean> discriminatorInInterfaceTree = new IdentityHashMap<>();
+    // by schema name
+    private final Map<String, String> parents = new HashMap<>();
+    private final Map<String, List<String>> children = new LinkedHashMap<>();
+    private final Map<String, List<String>> interfaces = new HashMap<>();
+    private final Map<String, Discriminator> discriminators = new HashMap<>();
+    private final Map<String, Set<String>> referrers = new HashMap<>();
+
+    /**
+     * @param schemas all the schemas (component models) of the specification, may be null
+     */
+    public SchemaIndex(Map<String, Schema> schemas) {
+        this.schemas = schemas == null ? Collections.emptyMap() : schemas;
+        this.indexed = new HashMap<>(this.schemas);
+        this.aliases = Collections.unmodifiableMap(DefaultCodegenConfig.getAllAliases(schemas));
+        for (Map.Entry<String, Schema> entry : this.schemas.entrySet()) {
+            final String name = entry.getKey();
+            final Schema schema = entry.getValue();
+            if (schema == null) {
+                continue;
+            }
+            if (schema.getDiscriminator() != null) {
+                discriminators.put(name, schema.getDiscriminator());
+            }
+            indexReferences(name, schema, Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (schema instanceof ComposedSchema) {
+                indexComposedSchema(name, (ComposedSchema) schema);
+            }
+        }
+    }
+
+    private void indexComposedSchema(String name, ComposedSchema composed) {
+        final String parent = parentNameOf(composed);
+        parentNames.put(composed, parent);
+        if (StringUtils.isNotBlank(parent) && schemas.containsKey(parent)) {
+            parents.put(name, parent);
+            children.computeIfAbsent(parent, k -> new ArrayList<>()).add(name);
+        }
+        boolean discriminatorInTree = composed.getDiscriminator() != null;
+        final List<Schema> interfaceSchemas = interfacesOf(composed);
+        if (interfaceSchemas != null) {
+            for (Schema interfaceSchema : interfaceSchemas) {
+                discriminatorInTree |= interfaceSchema.getDiscriminator() != null;
+                if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
+                    interfaces.computeIfAbsent(name, k -> new ArrayList<>()).add(getSimpleRef(interfaceSchema.get$ref()));
+                }
+            }
+        }
+        discriminatorInInterfaceTree.put(composed, discriminatorInTree);
+    }
+
+    // records the references of the schema and of its inline schemas
+    private void indexReferences(String name, Schema schema, Set<Schema> visited) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        if (StringUtils.isNotBlank(schema.get$ref())) {
+            final String ref = schema.get$ref();
+            final String simpleRef = simpleRefs.computeIfAbsent(ref, SchemaIndex::toSimpleRef);
+            referrers.computeIfAbsent(simpleRef, k -> new LinkedHashSet<>()).add(name);
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Object property : schema.getProperties().values()) {
+                indexReferences(name, (Schema) property, visited);
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            indexReferences(name, ((ArraySchema) schema).getItems(), visited);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            indexReferences(name, (Schema) schema.getAdditionalProperties(), visited);
+        }
+        if (schema.getNot() != null) {
+            indexReferences(name, schema.getNot(), visited);
+        }
+        if (schema instanceof ComposedSchema) {
+            final ComposedSchema composed = (ComposedSchema) schema;
+            indexReferences(name, composed.getAllOf(), visited);
+            indexReferences(name, composed.getAnyOf(), visited);
+            indexReferences(name, composed.getOneOf(), visited);
+        }
+    }
+
+    private void indexReferences(String name, List<Schema> schemas, Set<Schema> visited) {
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                indexReferences(name, schema, visited);
+            }
+        }
+    }
+
+    /**
+     * @param schemas map of schemas
+     * @return whether schemas were added to, removed from or replaced in the map since the index was built, e.g. by
+     * the flattening of inline models
+     */
+    public boolean isStale(Map<String, Schema> schemas) {
+        if (schemas == null) {
+            return false;
+        }
+        if (schemas.size() != indexed.size()) {
+            return true;
+        }
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            if (indexed.get(entry.getKey()) != entry.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #isStale(Map)} for the conversion of one model, without going through all the schemas: whether
+     * schemas were added or removed, or the schema of the model or of its parent was replaced.
+     *
+     * @param schemas map of schemas
+     * @param name name of the model converted
+     * @return whether the index is stale for the model
+     */
+    public boolean isStale(Map<String, Schema> schemas, String name) {
+        if (schemas == null) {
+            return false;
+        }
+        if (schemas.size() != indexed.size() || schemas.get(name) != indexed.get(name)) {
+            return true;
+        }
+        final String parent = parents.get(name);
+        return parent != null && schemas.get(parent) != indexed.get(parent);
+    }
+
+    /**
+     * @param ref a $ref
+     * @return the name of the referenced schema, like {@link DefaultCodegenConfig#getSimpleRef(String)}
+     */
+    public String getSimpleRef(String ref) {
+        final String simpleRef = simpleRefs.get(ref);
+        return simpleRef != null ? simpleRef : toSimpleRef(ref);
+    }
+
+    /**
+     * @param ref a $ref
+     * @return the schema referenced, null if it isn't one of the schemas
+     */
+    public Schema getSchema(String ref) {
+        return schemas.get(getSimpleRef(ref));
+    }
+
+    /**
+     * @return mapping from model name to the simple type the model is an alias of
+     */
+    public Map<String, String> getAliases() {
+        return aliases;
+    }
+
+    /**
+     * @param schema a schema
+     * @return whether the schema is a composed schema of the components, whose parent and interfaces are indexed
+     */
+    public boolean isIndexed(ComposedSchema schema) {
+        return parentNames.containsKey(schema);
+    }
+
+    /**
+     * @param schema an indexed composed schema
+     * @return the name of the first allOf reference, like {@link DefaultCodegenConfig#getParentName(ComposedSchema, Map)}
+     */
+    public String getParentName(ComposedSchema schema) {
+        return parentNames.get(schema);
+    }
+
+    /**
+     * @param schema an indexed composed schema
+     * @return whether the schema or one of its interfaces has a discriminator
+     */
+    public boolean isDiscriminatorInInterfaceTree(ComposedSchema schema) {
+        return Boolean.TRUE.equals(discriminatorInInterfaceTree.get(schema));
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema name of the parent of the model, null if it has none among the schemas
+     */
+    public String getParent(String name) {
+        return parents.get(name);
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema names of the models whose parent is the model, in the order of the schemas
+     */
+    public List<String> getChildren(String name) {
+        return children.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @return schema names of the models having children, in the order of their first child
+     */
+    public List<String> getParents() {
+        return new ArrayList<>(children.keySet());
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema names of the interfaces of the model
+     */
+    public List<String> getInterfaces(String name) {
+        return interfaces.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return discriminator of the model, null if it has none
+     */
+    public Discriminator getDiscriminator(String name) {
+        return discriminators.get(name);
+    }
+
+    /**
+     * @return schema names of the models owning a discriminator
+     */
+    public Set<String> getDiscriminatorOwners() {
+        return Collections.unmodifiableSet(discriminators.keySet());
+    }
+
+    /**
+     * @param name schema name of a model
+     * @return schema names of the schemas referencing the model, directly or through their inline schemas
+     */
+    public Set<String> getReferrers(String name) {
+        final Set<String> names = referrers.get(name);
+        return names == null ? Collections.emptySet() : Collections.unmodifiableSet(names);
+    }
+
+    static String toSimpleRef(String ref) {
+        if (ref.startsWith(COMPONENTS_PREFIX)) {
+            ref = ref.substring(ref.lastIndexOf("/") + 1);
+        }
+        return ref;
+    }
+
+    static String parentNameOf(ComposedSchema composedSchema) {
+        if (composedSchema.getAllOf() != null && !composedSchema.getAllOf().isEmpty()) {
+            Schema schema = composedSchema.getAllOf().get(0);
+            String ref = schema.get$ref();
+            if (StringUtils.isBlank(ref)) {
+                return null;
+            }
+            return toSimpleRef(ref);
+        }
+        return null;
+    }
+
+    static List<Schema> interfacesOf(ComposedSchema composed) {
+        if (composed.getAllOf() != null && composed.getAllOf().size() > 1) {
+            return composed.getAllOf().subList(1, composed.getAllOf().size());
+        } else if (composed.getAnyOf() != null && !composed.getAnyOf().isEmpty()) {
+            return composed.getAnyOf();
+        } else if (composed.getOneOf() != null && !composed.getOneOf().isEmpty()) {
+            return composed.getOneOf();
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.swagger.codegen.languages;
+
+/**
+ * Single pass equivalent of {@link DefaultCodegenConfig#escapeText(String)} followed by the unsafe characters escaping
+ * of a language: tabs and line breaks become spaces, double quotes get a backslash and, for languages with block
+ * comments, "*&#47;" and "&#47;*" are split with an underscore so that text can't close or open a comment.
+ *
+ * Text without any of these characters is returned as is.
+ */
+public class TextEscaper {
+
+    /**
+     * Escaping of languages with C style block comments (Java, Kotlin, Scala).
+     */
+    public static final TextEscaper BLOCK_COMMENTS = new TextEscaper(true);
+
+    // ASCII characters which may have to be escaped
+    private final boolean[] special = new boolean[128];
+    private final boolean splitComments;
+
+    protected TextEscaper(boolean splitComments) {
+        this.splitComments = splitComments;
+        special['\t'] = true;
+        special['\n'] = true;
+        special['\r'] = true;
+        special['"'] = true;
+        special['\\'] = true;
+        if (splitComments) {
+            special['*'] = true;
+            special['/'] = true;
+        }
+    }
+
+    /**
+     * @param input text, not null
+     * @return the escaped text, or null when the text holds a backslash: its escaping depends on the escape sequence
+     * it starts, left to {@link DefaultCodegenConfig#escapeText(String)}
+     */
+    public String escape(String input) {
+        final int length = input.length();
+        int start = 0;
+        while (start < length && !mustEscape(input, start)) {
+            start++;
+        }
+        if (start == length) {
+            return input;
+        }
+        final StringBuilder builder = new StringBuilder(length + 16).append(input, 0, start);
+        for (int i = start; i < length; i++) {
+            final char c = input.charAt(i);
+            switch (c) {
+                case '\\':
+                    return null;
+                case '\t':
+                case '\n':
+                case '\r':
+                    builder.append(' ');
+                    break;
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                default:
+                    builder.append(c);
+                    if (splitComments && isCommentDelimiter(input, i)) {
+                        builder.append('_');
+                    }
+            }
+        }
+        return builder.toString();
+    }
+
+    private boolean mustEscape(String input, int index) {
+        final char c = input.charAt(index);
+        if (c >= 128 || !special[c]) {
+            return false;
+        }
+        return c != '*' && c != '/' || isCommentDelimiter(input, index);
+    }
+
+    private static boolean isCommentDelimiter(String input, int index) {
+        if (index + 1 >= input.length()) {
+            return false;
+        }
+        final char c = input.charAt(index);
+        final char next = input.charAt(index + 1);
+        return c == '*' && next == '/' || c == '/' && next == '*';
+    }
+}
@@ -0,0 +1,102 @@
+package io.swagger.codegen.languages.html;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts Markdown (CommonMark) to HTML for the HTML documentation generators, remembering the HTML of the texts
+ * converted last: the same descriptions (shared parameters, properties referencing the same schema) come back many
+ * times in a specification, and in the successive generations of a process. The least recently used texts are
+ * dropped once the cache is full.
+ *
+ * Safe for use by concurrent threads; the generators share {@link #getShared()}.
+ */
+public class MarkdownRenderer {
+
+    public static final int DEFAULT_MAX_CACHE_SIZE = 100000;
+
+    // parser and renderer are immutable, shared by all the instances
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    private static final MarkdownRenderer SHARED = new MarkdownRenderer();
+
+    private final Map<String, String> cache;
+
+    public MarkdownRenderer() {
+        this(DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * @param maxCacheSize number of texts whose HTML is kept
+     */
+    public MarkdownRenderer(int maxCacheSize) {
+        this.cache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxCacheSize;
+            }
+        };
+    }
+
+    /**
+     * @return the renderer shared by the generators of the process
+     */
+    public static MarkdownRenderer getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Convert Markdown text to HTML.
+     *
+     * @param markdown text in Markdown; may be null.
+     * @return the text, converted to HTML. For null input, "" is returned.
+     */
+    public String toHtml(String markdown) {
+        if (markdown == null) {
+            return "";
+        }
+        String html;
+        synchronized (cache) {
+            html = cache.get(markdown);
+        }
+        if (html == null) {
+            final Node document = PARSER.parse(markdown);
+            html = RENDERER.render(document);
+            synchronized (cache) {
+                cache.put(markdown, html);
+            }
+        }
+        return html;
+    }
+
+    /**
+     * Convert texts in parallel ahead of their use, so that later calls to {@link #toHtml(String)} find their HTML.
+     *
+     * @param texts texts in Markdown, may contain nulls and duplicates
+     */
+    public void prepare(Collection<String> texts) {
+        texts.parallelStream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(this::toHtml);
+    }
+
+    public int getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
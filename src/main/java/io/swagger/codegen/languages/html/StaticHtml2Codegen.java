@@ -9,7 +9,6 @@ import io.swagger.codegen.CodegenResponse;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.SupportingFile;
 import io.swagger.codegen.languages.DefaultCodegenConfig;
-import io.swagger.codegen.utils.Markdown;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.info.Info;
@@ -40,9 +39,13 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     protected String perlModuleName = "WWW::SwaggerClient";
     protected String pythonPackageName = "swagger_client";
 
+    private final MarkdownRenderer markdownRenderer = MarkdownRenderer.getShared();
+
     public StaticHtml2Codegen() {
         super();
         outputFolder = "docs";
+        // model definitions are embedded as JSON in index.html
+        generateModelJson = true;
 
         defaultIncludes = new HashSet<String>();
 
@@ -233,8 +236,7 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     private void preparHtmlForGlobalDescription(OpenAPI openAPI) {
         String currentDescription = openAPI.getInfo().getDescription();
         if (currentDescription != null && !currentDescription.isEmpty()) {
-            Markdown markInstance = new Markdown();
-            openAPI.getInfo().setDescription(markInstance.toHtml(currentDescription));
+            openAPI.getInfo().setDescription(markdownRenderer.toHtml(currentDescription));
         }
         else {
             LOGGER.error("Swagger object description is empty [" + openAPI.getInfo().getTitle() + "]");
@@ -258,9 +260,8 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
                     if (parameter._enum.get(i) != null)
                         enumFormatted += "`" + parameter._enum.get(i) + "`" + spacer;
                 }
-                Markdown markInstance = new Markdown();
                 if (!enumFormatted.isEmpty())
-                    parameter.vendorExtensions.put("x-eumFormatted", markInstance.toHtml(enumFormatted));
+                    parameter.vendorExtensions.put("x-eumFormatted", markdownRenderer.toHtml(enumFormatted));
             }
         }
         return parameterList;
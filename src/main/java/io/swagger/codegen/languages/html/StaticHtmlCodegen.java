@@ -11,13 +11,16 @@ import io.swagger.codegen.CodegenResponse;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.SupportingFile;
 import io.swagger.codegen.languages.DefaultCodegenConfig;
-import io.swagger.codegen.utils.Markdown;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -147,7 +150,7 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig implements CodegenCo
         return input;
     }
 
-    private Markdown markdownConverter = new Markdown();
+    private final MarkdownRenderer markdownRenderer = MarkdownRenderer.getShared();
 
     /**
      * Convert Markdown text to HTML
@@ -159,7 +162,7 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig implements CodegenCo
     public String toHtml(String input) {
         if (input == null)
             return "";
-        return markdownConverter.toHtml(input);
+        return markdownRenderer.toHtml(input);
     }
 
     // DefaultCodegen converts model names to UpperCamelCase
@@ -171,6 +174,10 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig implements CodegenCo
     }
 
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        super.preprocessOpenAPI(openAPI);
+        // the descriptions of large specifications are converted in parallel beforehand
+        markdownRenderer.prepare(collectDescriptions(openAPI));
+
         Info info = openAPI.getInfo();
         info.setDescription(toHtml(info.getDescription()));
         info.setTitle(toHtml(info.getTitle()));
@@ -184,6 +191,33 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig implements CodegenCo
         }
     }
 
+    private static List<String> collectDescriptions(OpenAPI openAPI) {
+        final List<String> descriptions = new ArrayList<>();
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Schema schema : openAPI.getComponents().getSchemas().values()) {
+                descriptions.add(schema.getDescription());
+                descriptions.add(schema.getTitle());
+                if (schema.getProperties() != null) {
+                    for (Object property : schema.getProperties().values()) {
+                        descriptions.add(((Schema) property).getDescription());
+                    }
+                }
+            }
+        }
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                for (Operation operation : pathItem.readOperations()) {
+                    if (operation.getParameters() != null) {
+                        for (Parameter parameter : operation.getParameters()) {
+                            descriptions.add(parameter.getDescription());
+                        }
+                    }
+                }
+            }
+        }
+        return descriptions;
+    }
+
     // override to post-process any parameters
     public void postProcessParameter(CodegenParameter parameter) {
         parameter.description = toHtml(parameter.description);
@@ -8,7 +8,13 @@ import io.swagger.codegen.CodegenOperation;
 import io.swagger.codegen.CodegenParameter;
 import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.handlebars.helpers.JavaHelper;
+import io.swagger.codegen.languages.CodegenHelper;
+import io.swagger.codegen.languages.CopyOnWriteMap;
+import io.swagger.codegen.languages.CopyOnWriteSet;
 import io.swagger.codegen.languages.DefaultCodegenConfig;
+import io.swagger.codegen.languages.GenerationContext;
+import io.swagger.codegen.languages.NameCache;
+import io.swagger.codegen.languages.TextEscaper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -26,13 +32,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static io.swagger.codegen.CodegenConstants.HAS_ENUMS_EXT_NAME;
@@ -48,6 +57,38 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     public static final String WITH_XML = "withXml";
     public static final String SUPPORT_JAVA6 = "supportJava6";
 
+    // shared by all the Java generators, each generator gets a copy on its first change
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<String>(
+            Arrays.asList(
+                    "String",
+                    "boolean",
+                    "Boolean",
+                    "Double",
+                    "Integer",
+                    "Long",
+                    "Float",
+                    "Object",
+                    "byte[]")
+    ));
+    private static final Map<String, String> TYPE_MAPPING;
+    private static final Map<String, String> INSTANTIATION_TYPES;
+
+    static {
+        // filled entry by entry, as a generator changing the shared table would
+        final Map<String, String> typeMapping = new HashMap<String, String>();
+        for (Map.Entry<String, String> entry : CodegenHelper.getSharedTypeMappings().entrySet()) {
+            typeMapping.put(entry.getKey(), entry.getValue());
+        }
+        typeMapping.put("date", "Date");
+        typeMapping.put("file", "File");
+        TYPE_MAPPING = Collections.unmodifiableMap(typeMapping);
+
+        final Map<String, String> instantiationTypes = new HashMap<String, String>();
+        instantiationTypes.put("array", "ArrayList");
+        instantiationTypes.put("map", "HashMap");
+        INSTANTIATION_TYPES = Collections.unmodifiableMap(instantiationTypes);
+    }
+
     protected String dateLibrary = "threetenbp";
     protected boolean java8Mode = false;
     protected boolean withXml = false;
@@ -103,22 +144,9 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                         "native", "super", "while", "null")
         );
 
-        languageSpecificPrimitives = new HashSet<String>(
-                Arrays.asList(
-                        "String",
-                        "boolean",
-                        "Boolean",
-                        "Double",
-                        "Integer",
-                        "Long",
-                        "Float",
-                        "Object",
-                        "byte[]")
-        );
-        instantiationTypes.put("array", "ArrayList");
-        instantiationTypes.put("map", "HashMap");
-        typeMapping.put("date", "Date");
-        typeMapping.put("file", "File");
+        languageSpecificPrimitives = new CopyOnWriteSet<>(LANGUAGE_SPECIFIC_PRIMITIVES);
+        instantiationTypes = new CopyOnWriteMap<>(INSTANTIATION_TYPES);
+        typeMapping = new CopyOnWriteMap<>(TYPE_MAPPING);
 
         cliOptions.add(new CliOption(CodegenConstants.MODEL_PACKAGE, CodegenConstants.MODEL_PACKAGE_DESC));
         cliOptions.add(new CliOption(CodegenConstants.API_PACKAGE, CodegenConstants.API_PACKAGE_DESC));
@@ -660,7 +688,8 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
 
     @Override
     public String getAlias(String name) {
-        if (typeAliases != null && typeAliases.containsKey(name)) {
+        final Map<String, String> typeAliases = getTypeAliases();
+        if (typeAliases.containsKey(name)) {
             return typeAliases.get(name);
         }
         return name;
@@ -828,7 +857,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 // LOGGER.error("No Type defined.", new Exception());
             }
         }
-        return toModelName(schemaType);
+        return nameCache.get(NameCache.MODEL_NAME, schemaType, this::toModelName);
     }
 
     @Override
@@ -862,8 +891,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         }
         boolean hasEnums = getBooleanValue(codegenModel, HAS_ENUMS_EXT_NAME);
         if (allSchemas != null && codegenModel.parentSchema != null && hasEnums) {
-            final Schema parentModel = allSchemas.get(codegenModel.parentSchema);
-            final CodegenModel parentCodegenModel = super.fromModel(codegenModel.parent, parentModel);
+            final CodegenModel parentCodegenModel = getParentCodegenModel(codegenModel, allSchemas);
             codegenModel = AbstractJavaCodegen.reconcileInlineEnums(codegenModel, parentCodegenModel);
         }
         return codegenModel;
@@ -940,6 +968,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
 
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        super.preprocessOpenAPI(openAPI);
         if (openAPI == null || openAPI.getPaths() == null){
             return;
         }
@@ -1076,24 +1105,19 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         if ("$".equals(name)) {
             return "value";
         }
-        name = name.replaceAll("\\[\\]", StringUtils.EMPTY);
-        name = name.replaceAll("\\[", "_")
-                .replaceAll("\\]", "")
-                .replaceAll("\\(", "_")
-                .replaceAll("\\)", StringUtils.EMPTY)
-                .replaceAll("\\.", "_")
-                .replaceAll("-", "_")
-                .replaceAll(" ", "_");
+        // "\W-[\$]" never matched once hyphens were replaced, other characters are kept as they are
+        return sanitizeNameCharacters(name, false);
+    }
 
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W-[\\$]", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll(StringUtils.EMPTY);
-        }
-        else {
-            name = name.replaceAll("\\W-[\\$]", StringUtils.EMPTY);
+    private CodegenModel getParentCodegenModel(CodegenModel codegenModel, Map<String, Schema> allSchemas) {
+        final String parent = codegenModel.parent;
+        final Schema parentModel = allSchemas.get(codegenModel.parentSchema);
+        final GenerationContext context = getGenerationContext();
+        if (context == null || !context.isFor(allSchemas)) {
+            return super.fromModel(parent, parentModel);
         }
-        return name;
+        // shared by all the children of the parent, only read when reconciling enums
+        return context.getParentModel(codegenModel.parentSchema, parentSchema -> super.fromModel(parent, parentModel));
     }
 
     private static CodegenModel reconcileInlineEnums(CodegenModel codegenModel, CodegenModel parentCodegenModel) {
@@ -1113,25 +1137,26 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         final List<CodegenProperty> parentModelCodegenProperties = parentCodegenModel.vars;
         List<CodegenProperty> codegenProperties = codegenModel.vars;
 
-        // Iterate over all of the parent model properties
-        boolean removedChildEnum = false;
+        // Index the enums of the parent, equal properties having the same name
+        final Map<String, List<CodegenProperty>> parentEnums = new HashMap<>();
         for (CodegenProperty parentModelCodegenPropery : parentModelCodegenProperties) {
-            // Look for enums
-            boolean isEnum = getBooleanValue(parentModelCodegenPropery, IS_ENUM_EXT_NAME);
-            if (isEnum) {
-                // Now that we have found an enum in the parent class,
-                // and search the child class for the same enum.
-                Iterator<CodegenProperty> iterator = codegenProperties.iterator();
-                while (iterator.hasNext()) {
-                    CodegenProperty codegenProperty = iterator.next();
-                    isEnum = getBooleanValue(codegenProperty, IS_ENUM_EXT_NAME);
-                    if (isEnum && codegenProperty.equals(parentModelCodegenPropery)) {
-                        // We found an enum in the child class that is
-                        // a duplicate of the one in the parent, so remove it.
-                        iterator.remove();
-                        removedChildEnum = true;
-                    }
-                }
+            if (getBooleanValue(parentModelCodegenPropery, IS_ENUM_EXT_NAME)) {
+                parentEnums.computeIfAbsent(parentModelCodegenPropery.baseName, baseName -> new ArrayList<>()).add(parentModelCodegenPropery);
+            }
+        }
+
+        // Remove the enums of the child class which are duplicates of the ones in the parent
+        boolean removedChildEnum = false;
+        Iterator<CodegenProperty> iterator = codegenProperties.iterator();
+        while (iterator.hasNext()) {
+            CodegenProperty codegenProperty = iterator.next();
+            if (!getBooleanValue(codegenProperty, IS_ENUM_EXT_NAME)) {
+                continue;
+            }
+            final List<CodegenProperty> candidates = parentEnums.get(codegenProperty.baseName);
+            if (candidates != null && candidates.contains(codegenProperty)) {
+                iterator.remove();
+                removedChildEnum = true;
             }
         }
 
@@ -1268,6 +1293,11 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         return input.replace("*/", "*_/").replace("/*", "/_*");
     }
 
+    @Override
+    protected TextEscaper getTextEscaper() {
+        return TextEscaper.BLOCK_COMMENTS;
+    }
+
     /*
      * Derive invoker package name based on the input
      * e.g. foo.bar.model => foo.bar
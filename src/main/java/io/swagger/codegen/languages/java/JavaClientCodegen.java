@@ -12,6 +12,7 @@ import io.swagger.codegen.CodegenParameter;
 import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.languages.ModelIndex;
 import io.swagger.codegen.languages.features.BeanValidationFeatures;
 import io.swagger.codegen.languages.features.GzipFeatures;
 import io.swagger.codegen.languages.features.PerformBeanValidationFeatures;
@@ -44,6 +45,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     public static final String PLAY_VERSION = "playVersion";
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
+    // libraries generated by MultiLibraryGeneration, not a command line option until a generator driver runs it
+    public static final String LIBRARIES = "libraries";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
@@ -326,7 +329,28 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     @SuppressWarnings("unchecked")
     @Override
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        super.postProcessOperations(objs);
+        return postProcessLibraryOperations(postProcessSharedOperations(objs));
+    }
+
+    /**
+     * Post-processing of the operations which is the same for all the libraries.
+     *
+     * @param objs operations, with their imports
+     * @return the operations
+     */
+    protected Map<String, Object> postProcessSharedOperations(Map<String, Object> objs) {
+        return super.postProcessOperations(objs);
+    }
+
+    /**
+     * Post-processing of the operations which depends on the library, e.g. the paths of the retrofit and feign
+     * clients. The operations are changed in place.
+     *
+     * @param objs operations, under "operations" / "operation"
+     * @return the operations
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> postProcessLibraryOperations(Map<String, Object> objs) {
         if (usesAnyRetrofitLibrary()) {
             Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
             if (operations != null) {
@@ -398,6 +422,15 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         return objs;
     }
 
+    /**
+     * @return key telling apart the generators which don't convert the models and operations of a specification alike,
+     * e.g. libraries with another JSON processing or type mapping
+     */
+    String conversionKey() {
+        return additionalProperties.containsKey("jackson") + "," + additionalProperties.containsKey("gson") + ","
+                + java8Mode + "," + dateLibrary + "," + typeMapping + "," + importMapping + "," + instantiationTypes;
+    }
+
     @Override
     public String apiFilename(String templateName, String tag) {
         if("vertx".equals(getLibrary())) {
@@ -507,6 +540,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         return allProcessedModels;
     }
 
+    @Override
+    public void postProcessModelIndex(ModelIndex index) {
+        super.postProcessModelIndex(index);
+        if(!additionalProperties.containsKey("gsonFactoryMethod")) {
+            additionalProperties.put("parent", modelInheritanceSupportInGson(index));
+        }
+    }
+
     @Override
     public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -563,6 +604,30 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         return parentsList;
     }
 
+    /**
+     * Same list of parents and children as {@link #modelInheritanceSupportInGson(List)}, from the index of the models
+     * converted in batches.
+     */
+    protected List<Map<String, Object>> modelInheritanceSupportInGson(ModelIndex index) {
+        List<Map<String, Object>> parentsList = new ArrayList<>();
+        for (String parentName : index.getParents()) {
+            List<Map<String, Object>> childrenList = new ArrayList<>();
+            Map<String, Object> parent = new HashMap<>();
+            parent.put("classname", toModelReference(parentName).classname);
+            for (String childName : index.getDirectChildren(parentName)) {
+                CodegenModel model = toModelReference(childName);
+                Map<String, Object> child = new HashMap<>();
+                child.put("name", model.name);
+                child.put("classname", model.classname);
+                childrenList.add(child);
+            }
+            parent.put("children", childrenList);
+            parent.put("discriminator", index.getDiscriminator(parentName));
+            parentsList.add(parent);
+        }
+        return parentsList;
+    }
+
     public void setUseRxJava(boolean useRxJava) {
         this.useRxJava = useRxJava;
         doNotUseRx = false;
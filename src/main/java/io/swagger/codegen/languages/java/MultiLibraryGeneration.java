@@ -0,0 +1,406 @@
+package io.swagger.codegen.languages.java;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenParameter;
+import io.swagger.codegen.languages.FlagMap;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Generation of several libraries of the Java client (okhttp-gson, feign, jersey2...) from one conversion of the
+ * specification. The libraries converting the specification alike (same JSON processing and type mappings, see
+ * {@link JavaClientCodegen#conversionKey()}) share the conversion: the models and operations are converted and
+ * post-processed once ({@link JavaClientCodegen#postProcessModels(Map)}, {@link JavaClientCodegen#postProcessAllModels(Map)},
+ * {@link JavaClientCodegen#postProcessSharedOperations(Map)}), then each library gets copies of the operations on which
+ * only the post-processing of the library runs ({@link JavaClientCodegen#postProcessLibraryOperations(Map)}). The
+ * libraries are converted and post-processed in parallel.
+ *
+ * The generator of each library is a copy of the prototype with the library set, generating in a sub folder of the
+ * output folder of the prototype named after the library. The models are shared by the libraries converting alike and
+ * are read-only: the rendering of a library must not post-process or change them again.
+ */
+public class MultiLibraryGeneration {
+
+    private final JavaClientCodegen prototype;
+    private final List<String> libraries;
+
+    /**
+     * @param prototype generator whose options are set but not processed yet, reading the libraries from its
+     * {@link JavaClientCodegen#LIBRARIES} additional property
+     */
+    public MultiLibraryGeneration(JavaClientCodegen prototype) {
+        this(prototype, librariesOf(prototype));
+    }
+
+    /**
+     * @param prototype generator whose options are set but not processed yet
+     * @param libraries libraries to generate
+     */
+    public MultiLibraryGeneration(JavaClientCodegen prototype, Collection<String> libraries) {
+        if (libraries == null || libraries.isEmpty()) {
+            throw new RuntimeException("No library to generate, set the " + JavaClientCodegen.LIBRARIES + " property");
+        }
+        for (String library : libraries) {
+            if (!prototype.supportedLibraries().containsKey(library)) {
+                throw new RuntimeException("Unknown library: " + library);
+            }
+        }
+        this.prototype = prototype;
+        this.libraries = new ArrayList<>(libraries);
+    }
+
+    private static List<String> librariesOf(JavaClientCodegen prototype) {
+        final Object libraries = prototype.additionalProperties().get(JavaClientCodegen.LIBRARIES);
+        final List<String> names = new ArrayList<>();
+        if (libraries != null) {
+            for (String library : libraries.toString().split(",")) {
+                if (StringUtils.isNotBlank(library)) {
+                    names.add(library.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * @return libraries to generate
+     */
+    public List<String> getLibraries() {
+        return Collections.unmodifiableList(libraries);
+    }
+
+    /**
+     * Convert and post-process the specification once for the libraries converting it alike, and post-process the
+     * operations of each library.
+     *
+     * @param openAPI the specification
+     * @return the generation of each library, in the order of the libraries
+     */
+    public List<LibraryGeneration> convert(OpenAPI openAPI) {
+        final Map<String, List<JavaClientCodegen>> generatorsByConversion = new LinkedHashMap<>();
+        for (String library : libraries) {
+            final JavaClientCodegen generator = newGenerator(library);
+            generatorsByConversion.computeIfAbsent(generator.conversionKey(), key -> new ArrayList<>()).add(generator);
+        }
+        // the pre-processing adds extensions to the operations of the specification, not to be done concurrently
+        for (List<JavaClientCodegen> generators : generatorsByConversion.values()) {
+            for (JavaClientCodegen generator : generators) {
+                generator.preprocessOpenAPI(openAPI);
+            }
+        }
+        final Map<String, CompletableFuture<LibraryGeneration>> generations = new HashMap<>();
+        for (List<JavaClientCodegen> generators : generatorsByConversion.values()) {
+            final CompletableFuture<Conversion> conversion = CompletableFuture.supplyAsync(() -> convert(generators, openAPI));
+            for (JavaClientCodegen generator : generators) {
+                generations.put(generator.getLibrary(), conversion.thenApplyAsync(converted -> new LibraryGeneration(generator,
+                        converted.models, converted.modelMaps, postProcess(generator, converted.operationMaps))));
+            }
+        }
+        final List<LibraryGeneration> result = new ArrayList<>();
+        for (String library : libraries) {
+            result.add(generations.get(library).join());
+        }
+        return result;
+    }
+
+    private JavaClientCodegen newGenerator(String library) {
+        final JavaClientCodegen generator = (JavaClientCodegen) prototype.clone();
+        generator.setLibrary(library);
+        generator.setOutputDir(prototype.getOutputDir() + File.separator + library);
+        generator.processOpts();
+        return generator;
+    }
+
+    /**
+     * Conversion and shared post-processing, by the first generator of the libraries converting alike. The additional
+     * properties it sets while post-processing (e.g. the parents of the Gson models) are set on the other generators.
+     */
+    private static Conversion convert(List<JavaClientCodegen> generators, OpenAPI openAPI) {
+        final JavaClientCodegen generator = generators.get(0);
+        final Map<String, Object> properties = new HashMap<>(generator.additionalProperties());
+
+        final Map<String, Schema> schemas = openAPI.getComponents() != null ? openAPI.getComponents().getSchemas() : null;
+        final Map<String, CodegenModel> models = generator.fromModels(schemas);
+        Map<String, Object> modelMaps = new LinkedHashMap<>();
+        final List<Object> allModels = new ArrayList<>();
+        for (Map.Entry<String, CodegenModel> entry : models.entrySet()) {
+            final Map<String, Object> modelMap = generator.postProcessModels(toModelMap(generator, entry.getKey(), entry.getValue()));
+            modelMaps.put(entry.getKey(), modelMap);
+            allModels.addAll((List<?>) modelMap.get("models"));
+        }
+        modelMaps = generator.postProcessAllModels(modelMaps);
+
+        final Map<String, Map<String, Object>> operationMaps = new TreeMap<>();
+        for (Map.Entry<String, List<CodegenOperation>> entry : generator.fromOperations(openAPI).entrySet()) {
+            final Map<String, Object> operationMap = toOperationMap(generator, entry.getKey(), entry.getValue());
+            generator.postProcessSharedOperations(operationMap);
+            generator.postProcessOperationsWithModels(operationMap, allModels);
+            operationMaps.put(entry.getKey(), operationMap);
+        }
+
+        for (Map.Entry<String, Object> property : generator.additionalProperties().entrySet()) {
+            if (properties.get(property.getKey()) != property.getValue()) {
+                for (JavaClientCodegen other : generators.subList(1, generators.size())) {
+                    other.additionalProperties().put(property.getKey(), property.getValue());
+                }
+            }
+        }
+        return new Conversion(Collections.unmodifiableMap(models), Collections.unmodifiableMap(modelMaps), operationMaps);
+    }
+
+    // model, its import path and imports, as handed to the model templates
+    private static Map<String, Object> toModelMap(JavaClientCodegen generator, String name, CodegenModel model) {
+        final Map<String, Object> modelObject = new HashMap<>();
+        modelObject.put("model", model);
+        modelObject.put("importPath", generator.toModelImport(model.classname));
+        final List<Object> modelObjects = new ArrayList<>();
+        modelObjects.add(modelObject);
+
+        final Set<String> importSet = new TreeSet<>();
+        for (String nameInImport : model.imports) {
+            String mapping = generator.importMapping().get(nameInImport);
+            if (mapping == null) {
+                mapping = generator.toModelImport(nameInImport);
+            }
+            if (mapping != null && !generator.defaultIncludes().contains(mapping)) {
+                importSet.add(mapping);
+            }
+            mapping = generator.instantiationTypes().get(nameInImport);
+            if (mapping != null && !generator.defaultIncludes().contains(mapping)) {
+                importSet.add(mapping);
+            }
+        }
+        final Map<String, Object> modelMap = new HashMap<>();
+        modelMap.put("package", generator.modelPackage());
+        modelMap.put("classname", generator.toModelName(name));
+        modelMap.put("models", modelObjects);
+        modelMap.put("imports", toImports(importSet));
+        return modelMap;
+    }
+
+    // operations of a tag and their imports, as handed to the API templates
+    private static Map<String, Object> toOperationMap(JavaClientCodegen generator, String tag, List<CodegenOperation> operations) {
+        final Map<String, Object> operationsOfTag = new HashMap<>();
+        operationsOfTag.put("classname", generator.toApiName(tag));
+        operationsOfTag.put("pathPrefix", generator.toApiVarName(tag));
+        operationsOfTag.put("operation", operations);
+
+        final Set<String> importSet = new TreeSet<>();
+        for (CodegenOperation operation : operations) {
+            for (String nameInImport : operation.imports) {
+                final String mapping = generator.importMapping().get(nameInImport);
+                importSet.add(mapping != null ? mapping : generator.toModelImport(nameInImport));
+            }
+        }
+        final Map<String, Object> operationMap = new HashMap<>();
+        operationMap.put("operations", operationsOfTag);
+        operationMap.put("package", generator.apiPackage());
+        operationMap.put("imports", toImports(importSet));
+        operationMap.put("hasImport", !importSet.isEmpty());
+        return operationMap;
+    }
+
+    private static List<Map<String, String>> toImports(Set<String> importSet) {
+        final List<Map<String, String>> imports = new ArrayList<>();
+        for (String name : importSet) {
+            final Map<String, String> item = new HashMap<>();
+            item.put("import", name);
+            imports.add(item);
+        }
+        return imports;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> postProcess(JavaClientCodegen generator, Map<String, Map<String, Object>> converted) {
+        final Map<String, Map<String, Object>> operationMaps = new TreeMap<>();
+        for (Map.Entry<String, Map<String, Object>> entry : converted.entrySet()) {
+            final Map<String, Object> operationsOfTag = new HashMap<>((Map<String, Object>) entry.getValue().get("operations"));
+            final List<CodegenOperation> copies = new ArrayList<>();
+            for (CodegenOperation operation : (List<CodegenOperation>) operationsOfTag.get("operation")) {
+                copies.add(copy(operation));
+            }
+            operationsOfTag.put("operation", copies);
+            final Map<String, Object> operationMap = new HashMap<>(entry.getValue());
+            operationMap.put("operations", operationsOfTag);
+            operationMap.put("imports", new ArrayList<>((List<?>) entry.getValue().get("imports")));
+            operationMaps.put(entry.getKey(), generator.postProcessLibraryOperations(operationMap));
+        }
+        return operationMaps;
+    }
+
+    /**
+     * Copy of an operation which the post-processing of a library can change without changing the operation: the
+     * extensions, parameters and consumed media types of the copy are its own, the other fields are those of the
+     * operation. The fields are copied one by one; a field added to the operations must be added here.
+     */
+    private static CodegenOperation copy(CodegenOperation operation) {
+        final CodegenOperation copy = new CodegenOperation();
+        copy.path = operation.path;
+        copy.operationId = operation.operationId;
+        copy.operationIdLowerCase = operation.operationIdLowerCase;
+        copy.operationIdCamelCase = operation.operationIdCamelCase;
+        copy.operationIdSnakeCase = operation.operationIdSnakeCase;
+        copy.nickname = operation.nickname;
+        copy.httpMethod = operation.httpMethod;
+        copy.summary = operation.summary;
+        copy.notes = operation.notes;
+        copy.unescapedNotes = operation.unescapedNotes;
+        copy.baseName = operation.baseName;
+        copy.defaultResponse = operation.defaultResponse;
+        copy.discriminator = operation.discriminator;
+        copy.returnType = operation.returnType;
+        copy.returnBaseType = operation.returnBaseType;
+        copy.returnContainer = operation.returnContainer;
+        copy.returnSimpleType = operation.returnSimpleType;
+        copy.returnTypeIsPrimitive = operation.returnTypeIsPrimitive;
+        copy.subresourceOperation = operation.subresourceOperation;
+        copy.produces = operation.produces;
+        copy.prioritizedContentTypes = operation.prioritizedContentTypes;
+        copy.responses = operation.responses;
+        copy.responseHeaders.addAll(operation.responseHeaders);
+        copy.authMethods = operation.authMethods;
+        copy.tags = operation.tags;
+        copy.imports = operation.imports;
+        copy.examples = operation.examples;
+        copy.externalDocs = operation.externalDocs;
+
+        copy.vendorExtensions = copy(operation.vendorExtensions);
+        // the parameters of each location are the copies of allParams, as the same instances are in both lists
+        final Map<CodegenParameter, CodegenParameter> parameterCopies = new IdentityHashMap<>();
+        if (operation.allParams != null) {
+            copy.allParams = new ArrayList<>();
+            for (CodegenParameter parameter : operation.allParams) {
+                final CodegenParameter parameterCopy = parameter.copy();
+                parameterCopy.vendorExtensions = copy(parameter.vendorExtensions);
+                parameterCopies.put(parameter, parameterCopy);
+                copy.allParams.add(parameterCopy);
+            }
+        }
+        copy.bodyParam = operation.bodyParam == null ? null : parameterCopies.getOrDefault(operation.bodyParam, operation.bodyParam);
+        copy.bodyParams = copy(operation.bodyParams, parameterCopies);
+        copy.pathParams = copy(operation.pathParams, parameterCopies);
+        copy.queryParams = copy(operation.queryParams, parameterCopies);
+        copy.headerParams = copy(operation.headerParams, parameterCopies);
+        copy.formParams = copy(operation.formParams, parameterCopies);
+        copy.cookieParams = copy(operation.cookieParams, parameterCopies);
+        copy.requiredParams = copy(operation.requiredParams, parameterCopies);
+        if (operation.consumes != null) {
+            copy.consumes = new ArrayList<>();
+            for (Map<String, String> consume : operation.consumes) {
+                copy.consumes.add(new HashMap<>(consume));
+            }
+        }
+        return copy;
+    }
+
+    // extensions keeping the flags of FlagMap, see ExtensionHelper
+    private static Map<String, Object> copy(Map<String, Object> extensions) {
+        return extensions == null ? null : new FlagMap(new HashMap<>(extensions));
+    }
+
+    private static List<CodegenParameter> copy(List<CodegenParameter> parameters, Map<CodegenParameter, CodegenParameter> parameterCopies) {
+        if (parameters == null) {
+            return null;
+        }
+        final List<CodegenParameter> copies = new ArrayList<>(parameters.size());
+        for (CodegenParameter parameter : parameters) {
+            copies.add(parameterCopies.getOrDefault(parameter, parameter));
+        }
+        return copies;
+    }
+
+    private static class Conversion {
+
+        private final Map<String, CodegenModel> models;
+        private final Map<String, Object> modelMaps;
+        private final Map<String, Map<String, Object>> operationMaps;
+
+        Conversion(Map<String, CodegenModel> models, Map<String, Object> modelMaps, Map<String, Map<String, Object>> operationMaps) {
+            this.models = models;
+            this.modelMaps = modelMaps;
+            this.operationMaps = operationMaps;
+        }
+    }
+
+    /**
+     * Generator, post-processed models and operations of one library, ready to be rendered.
+     */
+    public static class LibraryGeneration {
+
+        private final JavaClientCodegen generator;
+        private final Map<String, CodegenModel> models;
+        private final Map<String, Object> modelMaps;
+        private final Map<String, Map<String, Object>> operationMaps;
+
+        LibraryGeneration(JavaClientCodegen generator, Map<String, CodegenModel> models, Map<String, Object> modelMaps,
+                          Map<String, Map<String, Object>> operationMaps) {
+            this.generator = generator;
+            this.models = models;
+            this.modelMaps = modelMaps;
+            this.operationMaps = operationMaps;
+        }
+
+        public String getLibrary() {
+            return generator.getLibrary();
+        }
+
+        /**
+         * @return generator of the library, its options processed
+         */
+        public JavaClientCodegen getGenerator() {
+            return generator;
+        }
+
+        /**
+         * @return models by name, shared with the libraries converting the specification alike, read-only
+         */
+        public Map<String, CodegenModel> getModels() {
+            return models;
+        }
+
+        /**
+         * @return post-processed models by name (package, model, imports), as handed to the model templates, shared
+         * with the libraries converting the specification alike, read-only
+         */
+        public Map<String, Object> getModelMaps() {
+            return modelMaps;
+        }
+
+        /**
+         * @return post-processed operations of the library by tag (package, operations, imports), as handed to the API
+         * templates
+         */
+        public Map<String, Map<String, Object>> getOperationMaps() {
+            return operationMaps;
+        }
+
+        /**
+         * @return post-processed operations of the library by tag
+         */
+        @SuppressWarnings("unchecked")
+        public Map<String, List<CodegenOperation>> getOperations() {
+            final Map<String, List<CodegenOperation>> operations = new TreeMap<>();
+            for (Map.Entry<String, Map<String, Object>> entry : operationMaps.entrySet()) {
+                final Map<String, Object> operationsOfTag = (Map<String, Object>) entry.getValue().get("operations");
+                operations.put(entry.getKey(), (List<CodegenOperation>) operationsOfTag.get("operation"));
+            }
+            return operations;
+        }
+    }
+}
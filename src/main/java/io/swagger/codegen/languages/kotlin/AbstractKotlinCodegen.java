@@ -2,7 +2,11 @@ package io.swagger.codegen.languages.kotlin;
 
 import io.swagger.codegen.CodegenModel;
 import io.swagger.codegen.CliOption;
+import io.swagger.codegen.languages.CodegenHelper;
+import io.swagger.codegen.languages.CopyOnWriteMap;
+import io.swagger.codegen.languages.CopyOnWriteSet;
 import io.swagger.codegen.languages.DefaultCodegenConfig;
+import io.swagger.codegen.languages.TextEscaper;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultCodegen;
 import io.swagger.v3.oas.models.media.Schema;
@@ -13,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -22,6 +27,157 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
 
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractKotlinCodegen.class);
 
+    // tables shared by all the Kotlin generators, each generator gets a copy on its first change
+
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            "kotlin.Any",
+            "kotlin.Byte",
+            "kotlin.Short",
+            "kotlin.Int",
+            "kotlin.Long",
+            "kotlin.Float",
+            "kotlin.Double",
+            "kotlin.Boolean",
+            "kotlin.Char",
+            "kotlin.String",
+            "kotlin.Array",
+            "kotlin.collections.List",
+            "kotlin.collections.Map",
+            "kotlin.collections.Set"
+    )));
+
+    // this includes hard reserved words defined by https://github.com/JetBrains/kotlin/blob/master/core/descriptors/src/org/jetbrains/kotlin/renderer/KeywordStringsGenerated.java
+    // as well as keywords from https://kotlinlang.org/docs/reference/keyword-reference.html
+    private static final Set<String> RESERVED_WORDS = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            "abstract",
+            "annotation",
+            "as",
+            "break",
+            "case",
+            "catch",
+            "class",
+            "companion",
+            "const",
+            "constructor",
+            "continue",
+            "crossinline",
+            "data",
+            "delegate",
+            "do",
+            "else",
+            "enum",
+            "external",
+            "false",
+            "final",
+            "finally",
+            "for",
+            "fun",
+            "if",
+            "in",
+            "infix",
+            "init",
+            "inline",
+            "inner",
+            "interface",
+            "internal",
+            "is",
+            "it",
+            "lateinit",
+            "lazy",
+            "noinline",
+            "null",
+            "object",
+            "open",
+            "operator",
+            "out",
+            "override",
+            "package",
+            "private",
+            "protected",
+            "public",
+            "reified",
+            "return",
+            "sealed",
+            "super",
+            "suspend",
+            "tailrec",
+            "this",
+            "throw",
+            "true",
+            "try",
+            "typealias",
+            "typeof",
+            "val",
+            "var",
+            "vararg",
+            "when",
+            "while"
+    )));
+
+    private static final Set<String> DEFAULT_INCLUDES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            "kotlin.Byte",
+            "kotlin.Short",
+            "kotlin.Int",
+            "kotlin.Long",
+            "kotlin.Float",
+            "kotlin.Double",
+            "kotlin.Boolean",
+            "kotlin.Char",
+            "kotlin.Array",
+            "kotlin.collections.List",
+            "kotlin.collections.Set",
+            "kotlin.collections.Map"
+    )));
+
+    private static final Map<String, String> TYPE_MAPPING;
+    private static final Map<String, String> IMPORT_MAPPING;
+    private static final Map<String, String> INSTANTIATION_TYPES;
+    private static final Map<String, String> SPECIAL_CHAR_REPLACEMENTS;
+
+    static {
+        final Map<String, String> typeMapping = new HashMap<String, String>();
+        typeMapping.put("string", "kotlin.String");
+        typeMapping.put("boolean", "kotlin.Boolean");
+        typeMapping.put("integer", "kotlin.Int");
+        typeMapping.put("float", "kotlin.Float");
+        typeMapping.put("long", "kotlin.Long");
+        typeMapping.put("double", "kotlin.Double");
+        typeMapping.put("number", "java.math.BigDecimal");
+        typeMapping.put("date-time", "java.time.LocalDateTime");
+        typeMapping.put("date", "java.time.LocalDateTime");
+        typeMapping.put("file", "java.io.File");
+        typeMapping.put("array", "kotlin.Array");
+        typeMapping.put("list", "kotlin.Array");
+        typeMapping.put("map", "kotlin.collections.Map");
+        typeMapping.put("object", "kotlin.Any");
+        typeMapping.put("binary", "kotlin.Array<kotlin.Byte>");
+        typeMapping.put("Date", "java.time.LocalDateTime");
+        typeMapping.put("DateTime", "java.time.LocalDateTime");
+        TYPE_MAPPING = Collections.unmodifiableMap(typeMapping);
+
+        final Map<String, String> importMapping = new HashMap<String, String>();
+        importMapping.put("BigDecimal", "java.math.BigDecimal");
+        importMapping.put("UUID", "java.util.UUID");
+        importMapping.put("File", "java.io.File");
+        importMapping.put("Date", "java.util.Date");
+        importMapping.put("Timestamp", "java.sql.Timestamp");
+        importMapping.put("DateTime", "java.time.LocalDateTime");
+        importMapping.put("LocalDateTime", "java.time.LocalDateTime");
+        importMapping.put("LocalDate", "java.time.LocalDate");
+        importMapping.put("LocalTime", "java.time.LocalTime");
+        IMPORT_MAPPING = Collections.unmodifiableMap(importMapping);
+
+        final Map<String, String> instantiationTypes = new HashMap<String, String>();
+        instantiationTypes.put("array", "arrayOf");
+        instantiationTypes.put("list", "arrayOf");
+        instantiationTypes.put("map", "mapOf");
+        INSTANTIATION_TYPES = Collections.unmodifiableMap(instantiationTypes);
+
+        final Map<String, String> specialCharReplacements = new HashMap<String, String>(CodegenHelper.getSharedSpecialCharacterMappings());
+        specialCharReplacements.put(";", "Semicolon");
+        SPECIAL_CHAR_REPLACEMENTS = Collections.unmodifiableMap(specialCharReplacements);
+    }
+
     private Set<String> instantiationLibraryFunction;
 
    
@@ -42,146 +198,24 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
         super();
         supportsInheritance = true;
 
-        languageSpecificPrimitives = new HashSet<String>(Arrays.asList(
-                "kotlin.Any",
-                "kotlin.Byte",
-                "kotlin.Short",
-                "kotlin.Int",
-                "kotlin.Long",
-                "kotlin.Float",
-                "kotlin.Double",
-                "kotlin.Boolean",
-                "kotlin.Char",
-                "kotlin.String",
-                "kotlin.Array",
-                "kotlin.collections.List",
-                "kotlin.collections.Map",
-                "kotlin.collections.Set"
-        ));
+        languageSpecificPrimitives = new CopyOnWriteSet<>(LANGUAGE_SPECIFIC_PRIMITIVES);
 
-        // this includes hard reserved words defined by https://github.com/JetBrains/kotlin/blob/master/core/descriptors/src/org/jetbrains/kotlin/renderer/KeywordStringsGenerated.java
-        // as well as keywords from https://kotlinlang.org/docs/reference/keyword-reference.html
-        reservedWords = new HashSet<String>(Arrays.asList(
-                "abstract",
-                "annotation",
-                "as",
-                "break",
-                "case",
-                "catch",
-                "class",
-                "companion",
-                "const",
-                "constructor",
-                "continue",
-                "crossinline",
-                "data",
-                "delegate",
-                "do",
-                "else",
-                "enum",
-                "external",
-                "false",
-                "final",
-                "finally",
-                "for",
-                "fun",
-                "if",
-                "in",
-                "infix",
-                "init",
-                "inline",
-                "inner",
-                "interface",
-                "internal",
-                "is",
-                "it",
-                "lateinit",
-                "lazy",
-                "noinline",
-                "null",
-                "object",
-                "open",
-                "operator",
-                "out",
-                "override",
-                "package",
-                "private",
-                "protected",
-                "public",
-                "reified",
-                "return",
-                "sealed",
-                "super",
-                "suspend",
-                "tailrec",
-                "this",
-                "throw",
-                "true",
-                "try",
-                "typealias",
-                "typeof",
-                "val",
-                "var",
-                "vararg",
-                "when",
-                "while"
-        ));
+        reservedWords = new CopyOnWriteSet<>(RESERVED_WORDS);
 
-        defaultIncludes = new HashSet<String>(Arrays.asList(
-                "kotlin.Byte",
-                "kotlin.Short",
-                "kotlin.Int",
-                "kotlin.Long",
-                "kotlin.Float",
-                "kotlin.Double",
-                "kotlin.Boolean",
-                "kotlin.Char",
-                "kotlin.Array",
-                "kotlin.collections.List",
-                "kotlin.collections.Set",
-                "kotlin.collections.Map"
-        ));
+        defaultIncludes = new CopyOnWriteSet<>(DEFAULT_INCLUDES);
 
         instantiationLibraryFunction = new HashSet<String>(Arrays.asList(
                 "arrayOf",
                 "mapOf"
         ));
 
-        typeMapping = new HashMap<String, String>();
-        typeMapping.put("string", "kotlin.String");
-        typeMapping.put("boolean", "kotlin.Boolean");
-        typeMapping.put("integer", "kotlin.Int");
-        typeMapping.put("float", "kotlin.Float");
-        typeMapping.put("long", "kotlin.Long");
-        typeMapping.put("double", "kotlin.Double");
-        typeMapping.put("number", "java.math.BigDecimal");
-        typeMapping.put("date-time", "java.time.LocalDateTime");
-        typeMapping.put("date", "java.time.LocalDateTime");
-        typeMapping.put("file", "java.io.File");
-        typeMapping.put("array", "kotlin.Array");
-        typeMapping.put("list", "kotlin.Array");
-        typeMapping.put("map", "kotlin.collections.Map");
-        typeMapping.put("object", "kotlin.Any");
-        typeMapping.put("binary", "kotlin.Array<kotlin.Byte>");
-        typeMapping.put("Date", "java.time.LocalDateTime");
-        typeMapping.put("DateTime", "java.time.LocalDateTime");
+        typeMapping = new CopyOnWriteMap<>(TYPE_MAPPING);
 
-        instantiationTypes.put("array", "arrayOf");
-        instantiationTypes.put("list", "arrayOf");
-        instantiationTypes.put("map", "mapOf");
+        instantiationTypes = new CopyOnWriteMap<>(INSTANTIATION_TYPES);
 
-        importMapping = new HashMap<String, String>();
-        importMapping.put("BigDecimal", "java.math.BigDecimal");
-        importMapping.put("UUID", "java.util.UUID");
-        importMapping.put("File", "java.io.File");
-        importMapping.put("Date", "java.util.Date");
-        importMapping.put("Timestamp", "java.sql.Timestamp");
-        importMapping.put("DateTime", "java.time.LocalDateTime");
-        importMapping.put("LocalDateTime", "java.time.LocalDateTime");
-        importMapping.put("LocalDate", "java.time.LocalDate");
-        importMapping.put("LocalTime", "java.time.LocalTime");
+        importMapping = new CopyOnWriteMap<>(IMPORT_MAPPING);
 
-        specialCharReplacements.put(";", "Semicolon");
+        specialCharReplacements = new CopyOnWriteMap<>(SPECIAL_CHAR_REPLACEMENTS);
 
         cliOptions.clear();
         addOption(CodegenConstants.SOURCE_FOLDER, CodegenConstants.SOURCE_FOLDER_DESC, sourceFolder);
@@ -242,6 +276,11 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
         return input.replace("*/", "*_/").replace("/*", "/_*");
     }
 
+    @Override
+    protected TextEscaper getTextEscaper() {
+        return TextEscaper.BLOCK_COMMENTS;
+    }
+
     public CodegenConstants.ENUM_PROPERTY_NAMING_TYPE getEnumPropertyNaming() {
         return this.enumPropertyNaming;
     }
@@ -288,7 +327,8 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
 
     @Override
     public String getAlias(String name) {
-        if (typeAliases != null && typeAliases.containsKey(name)) {
+        final Map<String, String> typeAliases = getTypeAliases();
+        if (typeAliases.containsKey(name)) {
             return typeAliases.get(name);
         }
         return name;
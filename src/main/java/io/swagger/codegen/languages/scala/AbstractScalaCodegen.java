@@ -5,6 +5,7 @@ import com.samskivert.mustache.Mustache;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.languages.DefaultCodegenConfig;
+import io.swagger.codegen.languages.TextEscaper;
 import io.swagger.v3.oas.models.media.*;
 import org.apache.commons.lang3.StringUtils;
 
@@ -234,6 +235,11 @@ public abstract class AbstractScalaCodegen extends DefaultCodegenConfig {
         return input.replace("*/", "*_/").replace("/*", "/_*");
     }
 
+    @Override
+    protected TextEscaper getTextEscaper() {
+        return TextEscaper.BLOCK_COMMENTS;
+    }
+
     protected String formatIdentifier(String name, boolean capitalized) {
         String identifier = camelize(sanitizeName(name), true);
         if (capitalized) {
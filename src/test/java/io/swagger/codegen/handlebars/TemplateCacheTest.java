@@ -0,0 +1,100 @@
+package io.swagger.codegen.handlebars;
+
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.CodegenArgument;
+import io.swagger.codegen.CodegenType;
+import io.swagger.codegen.languages.DefaultCodegenConfig;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+public class TemplateCacheTest {
+
+    @Test
+    public void testTemplatesCompiledOnce() throws Exception {
+        final File templateDir = Files.createTempDirectory("templates").toFile();
+        try {
+            FileUtils.write(new File(templateDir, "greeting.mustache"), "Hello {{name}} {{braces \"left\"}}{{>signature}}", StandardCharsets.UTF_8);
+            FileUtils.write(new File(templateDir, "signature.mustache"), "!", StandardCharsets.UTF_8);
+            FileUtils.write(new File(templateDir, "libraries/polite/signature.mustache"), ", please", StandardCharsets.UTF_8);
+
+            final Template template = newGenerator(templateDir, null).getCompiledTemplate("greeting.mustache");
+            Assert.assertEquals(template.apply(Collections.singletonMap("name", "World")), "Hello World {{!");
+            Assert.assertSame(newGenerator(templateDir, null).getCompiledTemplate("greeting.mustache"), template);
+
+            // the partial of the library first
+            final Template polite = newGenerator(templateDir, "polite").getCompiledTemplate("greeting");
+            Assert.assertNotSame(polite, template);
+            Assert.assertEquals(polite.apply(Collections.singletonMap("name", "World")), "Hello World {{, please");
+
+            FileUtils.write(new File(templateDir, "greeting.mustache"), "Bye {{name}}", StandardCharsets.UTF_8);
+            final Template changed = newGenerator(templateDir, null).getCompiledTemplate("greeting.mustache");
+            Assert.assertEquals(changed.apply(Collections.singletonMap("name", "World")), "Bye World");
+
+            // written again with the same content
+            final File greeting = new File(templateDir, "greeting.mustache");
+            FileUtils.write(greeting, "Bye {{name}}", StandardCharsets.UTF_8);
+            Assert.assertTrue(greeting.setLastModified(greeting.lastModified() + 1000));
+            Assert.assertSame(newGenerator(templateDir, null).getCompiledTemplate("greeting.mustache"), changed);
+        } finally {
+            TemplateCache.getInstance().clear();
+            FileUtils.deleteDirectory(templateDir);
+        }
+    }
+
+    @Test(expectedExceptions = FileNotFoundException.class)
+    public void testMissingTemplate() throws Exception {
+        final File templateDir = Files.createTempDirectory("templates").toFile();
+        try {
+            newGenerator(templateDir, null).getCompiledTemplate("missing.mustache");
+        } finally {
+            TemplateCache.getInstance().clear();
+            FileUtils.deleteDirectory(templateDir);
+        }
+    }
+
+    private static DefaultCodegenConfig newGenerator(File templateDir, String library) {
+        final DefaultCodegenConfig config = new TemplateCodegenConfig();
+        config.setTemplateDir(templateDir.getAbsolutePath());
+        config.setLibrary(library);
+        return config;
+    }
+
+    static class TemplateCodegenConfig extends DefaultCodegenConfig {
+        TemplateCodegenConfig() {
+            supportedLibraries.put("polite", "signature of the polite library");
+        }
+
+        @Override
+        public String getArgumentsLocation() {
+            return null;
+        }
+
+        @Override
+        public CodegenType getTag() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public String getHelp() {
+            return null;
+        }
+
+        @Override
+        public List<CodegenArgument> readLanguageArguments() {
+            return null;
+        }
+    }
+}
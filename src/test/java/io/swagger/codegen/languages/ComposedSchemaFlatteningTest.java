@@ -0,0 +1,117 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenProperty;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ComposedSchemaFlatteningTest {
+
+    private static final int DEPTH = 40;
+    private static final int CHILDREN = 200;
+
+    @Test
+    public void testAncestorsFlattenedOncePerRun() {
+        final Map<String, Schema> schemas = createDeepHierarchy();
+
+        final P_CountingCodegenConfig uncached = new P_CountingCodegenConfig();
+        final List<CodegenModel> expected = new ArrayList<>();
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            // a context for another map of schemas disables memoization
+            uncached.setGenerationContext(new GenerationContext(new LinkedHashMap<>(schemas)));
+            expected.add(uncached.fromModel(entry.getKey(), entry.getValue(), schemas));
+        }
+
+        final P_CountingCodegenConfig cached = new P_CountingCodegenConfig();
+        final List<CodegenModel> actual = new ArrayList<>(cached.fromModels(schemas).values());
+
+        Assert.assertEquals(actual.size(), expected.size());
+        for (int level = 0; level < DEPTH; level++) {
+            Assert.assertEquals(actual.get(level).vars.size(), level + 1);
+        }
+        for (int child = 0; child < CHILDREN; child++) {
+            final CodegenModel model = actual.get(DEPTH + child);
+            Assert.assertEquals(model.vars.size(), DEPTH + 1);
+            Assert.assertEquals(names(model.requiredVars), Arrays.asList("level0", "child" + child));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(names(actual.get(i).vars), names(expected.get(i).vars));
+            Assert.assertEquals(names(actual.get(i).requiredVars), names(expected.get(i).requiredVars));
+        }
+        // every level of the hierarchy is resolved once instead of once per descendant
+        Assert.assertTrue(cached.resolvedReferences.get() * 10 < uncached.resolvedReferences.get(),
+                cached.resolvedReferences + " references resolved, " + uncached.resolvedReferences + " without memoization");
+    }
+
+    @Test
+    public void testFlattenedAncestorReused() {
+        final Map<String, Schema> schemas = createDeepHierarchy();
+        final Schema parent = schemas.get("Level" + (DEPTH - 1));
+
+        final P_CountingCodegenConfig codegen = new P_CountingCodegenConfig();
+        final GenerationContext context = new GenerationContext(schemas);
+        codegen.setGenerationContext(context);
+        codegen.fromModel("Child0", schemas.get("Child0"), schemas);
+
+        final GenerationContext.FlattenedProperties flattened = context.getFlattenedProperties(parent, schema -> {
+            throw new AssertionError("Level" + (DEPTH - 1) + " flattened again");
+        });
+        Assert.assertEquals(flattened.getProperties().size(), DEPTH);
+        Assert.assertEquals(flattened.getRequired(), Collections.singletonList("level0"));
+
+        // the other children reuse the flattened parent instead of resolving the whole hierarchy again
+        final int resolvedReferences = codegen.resolvedReferences.get();
+        final CodegenModel model = codegen.fromModel("Child1", schemas.get("Child1"), schemas);
+        Assert.assertEquals(model.vars.size(), DEPTH + 1);
+        Assert.assertTrue(codegen.resolvedReferences.get() - resolvedReferences < DEPTH,
+                codegen.resolvedReferences.get() - resolvedReferences + " references resolved for a second child");
+        Assert.assertSame(context.getFlattenedProperties(parent, schema -> null), flattened);
+    }
+
+    private static Map<String, Schema> createDeepHierarchy() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Level0", new ObjectSchema().addProperties("level0", new StringSchema()).addRequiredItem("level0"));
+        for (int level = 1; level < DEPTH; level++) {
+            schemas.put("Level" + level, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/Level" + (level - 1)))
+                    .addAllOfItem(new ObjectSchema().addProperties("level" + level, new StringSchema())));
+        }
+        for (int child = 0; child < CHILDREN; child++) {
+            schemas.put("Child" + child, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/Level" + (DEPTH - 1)))
+                    .addAllOfItem(new ObjectSchema().addProperties("child" + child, new StringSchema())
+                            .addRequiredItem("child" + child)));
+        }
+        return schemas;
+    }
+
+    private static List<String> names(List<CodegenProperty> properties) {
+        final List<String> names = new ArrayList<>();
+        for (CodegenProperty property : properties) {
+            names.add(property.baseName);
+        }
+        return names;
+    }
+
+    private static class P_CountingCodegenConfig extends DefaultCodegenConfigTest.P_DefaultCodegenConfig {
+        private final AtomicInteger resolvedReferences = new AtomicInteger();
+
+        @Override
+        protected String getSimpleRef(String ref) {
+            resolvedReferences.incrementAndGet();
+            return super.getSimpleRef(ref);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.languages.java.JavaClientCodegen;
+import io.swagger.codegen.languages.kotlin.KotlinClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+public class CopyOnWriteTablesTest {
+
+    @Test
+    public void testMapCopiedOnFirstChange() {
+        final Map<String, String> table = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            table.put("key" + i, "value" + i);
+        }
+        final Map<String, String> shared = Collections.unmodifiableMap(table);
+        final CopyOnWriteMap<String, String> map = new CopyOnWriteMap<>(shared);
+        final Map<String, String> expected = new HashMap<>(table);
+
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(table.keySet()));
+        Assert.assertNull(map.remove("missing"));
+        Assert.assertTrue(map.isShared());
+
+        map.put("key100", "value100");
+        expected.put("key100", "value100");
+        Assert.assertFalse(map.isShared());
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(expected.keySet()));
+        Assert.assertEquals(shared.size(), 100);
+        Assert.assertFalse(shared.containsKey("key100"));
+    }
+
+    @Test
+    public void testMapChangedThroughIterator() {
+        final Map<String, String> table = new HashMap<>();
+        table.put("a", "1");
+        table.put("b", "2");
+        final CopyOnWriteMap<String, String> map = new CopyOnWriteMap<>(Collections.unmodifiableMap(table));
+
+        final Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, String> entry = iterator.next();
+            if (entry.getKey().equals("a")) {
+                entry.setValue("3");
+            } else {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(map, Collections.singletonMap("a", "3"));
+        Assert.assertEquals(table.get("a"), "1");
+        Assert.assertEquals(table.size(), 2);
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertEquals(table.size(), 2);
+    }
+
+    @Test
+    public void testSetCopiedOnFirstChange() {
+        final Set<String> table = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            table.add("word" + i);
+        }
+        final CopyOnWriteSet<String> set = new CopyOnWriteSet<>(Collections.unmodifiableSet(table));
+
+        Assert.assertEquals(set, table);
+        Assert.assertFalse(set.add("word0"));
+        Assert.assertFalse(set.remove("missing"));
+        Assert.assertTrue(set.isShared());
+
+        Assert.assertTrue(set.remove("word0"));
+        Assert.assertFalse(set.isShared());
+        Assert.assertFalse(set.contains("word0"));
+        Assert.assertTrue(table.contains("word0"));
+        Assert.assertEquals(set.size(), 99);
+    }
+
+    @Test
+    public void testJavaGeneratorsShareTables() {
+        final JavaClientCodegen first = new JavaClientCodegen();
+        final JavaClientCodegen second = new JavaClientCodegen();
+        for (JavaClientCodegen codegen : new JavaClientCodegen[]{first, second}) {
+            Assert.assertTrue(((CopyOnWriteMap<?, ?>) codegen.typeMapping()).isShared());
+            Assert.assertTrue(((CopyOnWriteMap<?, ?>) codegen.instantiationTypes()).isShared());
+            Assert.assertTrue(((CopyOnWriteMap<?, ?>) codegen.importMapping()).isShared());
+            Assert.assertTrue(((CopyOnWriteSet<?>) codegen.languageSpecificPrimitives()).isShared());
+        }
+        Assert.assertEquals(first.typeMapping().get("date"), "Date");
+        Assert.assertEquals(first.typeMapping().get("string"), "String");
+        Assert.assertEquals(first.instantiationTypes().get("array"), "ArrayList");
+
+        first.typeMapping().put("date", "LocalDate");
+        Assert.assertFalse(((CopyOnWriteMap<?, ?>) first.typeMapping()).isShared());
+        Assert.assertTrue(((CopyOnWriteMap<?, ?>) second.typeMapping()).isShared());
+        Assert.assertEquals(second.typeMapping().get("date"), "Date");
+    }
+
+    @Test
+    public void testKotlinGeneratorsShareTables() {
+        final KotlinClientCodegen first = new KotlinClientCodegen();
+        final KotlinClientCodegen second = new KotlinClientCodegen();
+        for (KotlinClientCodegen codegen : new KotlinClientCodegen[]{first, second}) {
+            Assert.assertTrue(((CopyOnWriteMap<?, ?>) codegen.instantiationTypes()).isShared());
+            Assert.assertTrue(((CopyOnWriteMap<?, ?>) codegen.specialCharReplacements).isShared());
+        }
+        Assert.assertEquals(first.instantiationTypes().get("list"), "arrayOf");
+        Assert.assertEquals(first.specialCharReplacements.get(";"), "Semicolon");
+        Assert.assertEquals(first.specialCharReplacements.get("$"), new JavaClientCodegen().specialCharReplacements.get("$"));
+    }
+
+    @Test
+    public void testGeneratorsDoNotSeeChangesOfOthers() {
+        final JavaClientCodegen changed = new JavaClientCodegen();
+        final JavaClientCodegen other = new JavaClientCodegen();
+        changed.typeMapping().put("string", "CharSequence");
+        changed.importMapping().remove("BigDecimal");
+        changed.languageSpecificPrimitives().add("CharSequence");
+        changed.reservedWords().add("custom");
+
+        Assert.assertEquals(other.typeMapping().get("string"), "String");
+        Assert.assertTrue(other.importMapping().containsKey("BigDecimal"));
+        Assert.assertFalse(other.languageSpecificPrimitives().contains("CharSequence"));
+        Assert.assertFalse(other.reservedWords().contains("custom"));
+        Assert.assertEquals(new JavaClientCodegen().typeMapping().get("string"), "String");
+
+        final KotlinClientCodegen kotlin = new KotlinClientCodegen();
+        kotlin.typeMapping().put("string", "kotlin.CharSequence");
+        Assert.assertEquals(new KotlinClientCodegen().typeMapping().get("string"), "kotlin.String");
+    }
+}
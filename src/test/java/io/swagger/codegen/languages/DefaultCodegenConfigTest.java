@@ -2,10 +2,31 @@ package io.swagger.codegen.languages;
 
 import io.swagger.codegen.CodegenArgument;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenOperation;
 import io.swagger.codegen.CodegenType;
+import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.languages.java.JavaInflectorServerCodegen;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class DefaultCodegenConfigTest {
 
@@ -62,7 +83,207 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.HIDE_GENERATION_TIMESTAMP), Boolean.FALSE);
     }
 
-    private static class P_DefaultCodegenConfig extends DefaultCodegenConfig{
+    @Test
+    public void testParallelModelConversion() throws Exception {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            schemas.put("Model" + i, new ObjectSchema()
+                    .addProperties("id", new IntegerSchema())
+                    .addProperties("model_name", new StringSchema()));
+            schemas.put("Alias" + i, new StringSchema());
+        }
+
+        final DefaultCodegenConfig serialCodegen = new P_DefaultCodegenConfig();
+        serialCodegen.processOpts();
+        final Map<String, CodegenModel> serial = serialCodegen.fromModels(schemas);
+
+        final DefaultCodegenConfig parallelCodegen = new P_DefaultCodegenConfig();
+        parallelCodegen.additionalProperties().put(DefaultCodegenConfig.PARALLEL_MODEL_CONVERSION, "true");
+        parallelCodegen.processOpts();
+        Assert.assertTrue(parallelCodegen.isParallelModelConversion());
+        final Map<String, CodegenModel> parallel = parallelCodegen.fromModels(schemas);
+
+        Assert.assertEquals(new ArrayList<>(parallel.keySet()), new ArrayList<>(schemas.keySet()));
+        for (String name : schemas.keySet()) {
+            final CodegenModel expected = serial.get(name);
+            final CodegenModel actual = parallel.get(name);
+            Assert.assertEquals(actual.classname, expected.classname);
+            Assert.assertEquals(actual.vars.size(), expected.vars.size());
+            Assert.assertEquals(actual.getVendorExtensions().get(CodegenConstants.IS_ALIAS_EXT_NAME),
+                    expected.getVendorExtensions().get(CodegenConstants.IS_ALIAS_EXT_NAME));
+        }
+        Assert.assertEquals(parallel.get("Alias7").getVendorExtensions().get(CodegenConstants.IS_ALIAS_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(parallel.get("Model7").getVendorExtensions().get(CodegenConstants.IS_ALIAS_EXT_NAME), Boolean.FALSE);
+    }
+
+    @Test
+    public void testParallelOperationConversion() throws Exception {
+        final Paths paths = new Paths();
+        for (int i = 0; i < 100; i++) {
+            final Operation operation = new Operation()
+                    // same operation id for every path, to get unique names assigned while grouping
+                    .operationId("getItem")
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")));
+            if (i % 3 != 0) {
+                operation.addTagsItem("tag" + (i % 7));
+            }
+            if (i % 5 == 0) {
+                operation.addTagsItem("other");
+            }
+            paths.addPathItem("/items" + i, new PathItem().get(operation));
+        }
+        final OpenAPI openAPI = new OpenAPI().paths(paths);
+
+        final DefaultCodegenConfig serialCodegen = new P_DefaultCodegenConfig();
+        serialCodegen.processOpts();
+        final Map<String, List<CodegenOperation>> serial = serialCodegen.fromOperations(openAPI);
+
+        final DefaultCodegenConfig parallelCodegen = new P_DefaultCodegenConfig();
+        parallelCodegen.additionalProperties().put(DefaultCodegenConfig.PARALLEL_OPERATION_CONVERSION, true);
+        parallelCodegen.processOpts();
+        final Map<String, List<CodegenOperation>> parallel = parallelCodegen.fromOperations(openAPI);
+
+        Assert.assertEquals(parallel.keySet(), serial.keySet());
+        Assert.assertTrue(serial.containsKey(DefaultCodegenConfig.DEFAULT_TAG));
+        for (String tag : serial.keySet()) {
+            final List<CodegenOperation> expected = serial.get(tag);
+            final List<CodegenOperation> actual = parallel.get(tag);
+            Assert.assertEquals(actual.size(), expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertEquals(actual.get(i).path, expected.get(i).path);
+                Assert.assertEquals(actual.get(i).operationId, expected.get(i).operationId);
+                Assert.assertEquals(actual.get(i).operationIdSnakeCase, expected.get(i).operationIdSnakeCase);
+            }
+        }
+    }
+
+    @Test
+    public void testModelJsonOnlyWhenEnabled() throws Exception {
+        final Schema schema = new ObjectSchema().addProperties("id", new IntegerSchema());
+
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        Assert.assertNull(codegen.fromModel("Sample", schema).modelJson);
+
+        final DefaultCodegenConfig jsonCodegen = new P_DefaultCodegenConfig();
+        jsonCodegen.additionalProperties().put(DefaultCodegenConfig.GENERATE_MODEL_JSON, "true");
+        jsonCodegen.processOpts();
+        Assert.assertTrue(jsonCodegen.fromModel("Sample", schema).modelJson.contains("\"id\""));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testTypeAliasesFieldKept() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Id", new StringSchema());
+        schemas.put("Pet", new ObjectSchema().addProperties("id", new Schema().$ref("#/components/schemas/Id")));
+
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.fromModel("Pet", schemas.get("Pet"), schemas);
+        Assert.assertEquals(codegen.typeAliases, Collections.singletonMap("Id", "string"));
+        Assert.assertEquals(codegen.typeAliases, codegen.getTypeAliases());
+    }
+
+    @Test
+    public void testUniqueOperationIds() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final Map<String, List<CodegenOperation>> operations = new LinkedHashMap<>();
+        final List<String> uniqueNames = new ArrayList<>();
+        for (String operationId : new String[]{"getPet", "getPet", "getPet_0", "getPet", "getPet_1", "getPet", "addPet"}) {
+            final CodegenOperation co = new CodegenOperation();
+            co.operationId = operationId;
+            codegen.addOperationToGroup("pet", "/pet", new Operation(), co, operations);
+            uniqueNames.add(co.operationId);
+        }
+        // names given by renaming on each operation of the tag having the current name, in order
+        Assert.assertEquals(uniqueNames, Arrays.asList("getPet", "getPet_0", "getPet_0_0", "getPet_1", "getPet_1_0", "getPet_2", "addPet"));
+        Assert.assertEquals(operations.get("pet").get(2).operationIdCamelCase, "GetPet00");
+    }
+
+    @Test(timeOut = 60 * 1000)
+    public void testOperationIdsOfLargeTagIndexedOnce() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final Map<String, List<CodegenOperation>> operations = new LinkedHashMap<>();
+        // called on its own for each operation, as by the generator driver
+        for (int i = 0; i < 20000; i++) {
+            final CodegenOperation co = new CodegenOperation();
+            co.operationId = "getPet" + i / 2;
+            codegen.addOperationToGroup("pet", "/pet", new Operation(), co, operations);
+        }
+        final List<CodegenOperation> pets = operations.get("pet");
+        Assert.assertEquals(pets.size(), 20000);
+        Assert.assertEquals(pets.get(4).operationId, "getPet2");
+        Assert.assertEquals(pets.get(5).operationId, "getPet2_0");
+
+        // an operationId changed by the caller is taken into account
+        pets.get(0).operationId = "renamed";
+        final CodegenOperation co = new CodegenOperation();
+        co.operationId = "getPet0";
+        codegen.addOperationToGroup("pet", "/pet", new Operation(), co, operations);
+        Assert.assertEquals(co.operationId, "getPet0");
+    }
+
+    @Test
+    public void testLanguageArgumentsReadOnce() {
+        final List<CodegenArgument> arguments = new JavaInflectorServerCodegen().readLanguageArguments();
+        Assert.assertEquals(arguments.size(), 4);
+        Assert.assertEquals(arguments.get(0).getOption(), "--model-docs");
+        Assert.assertEquals(arguments.get(0).getType(), "boolean");
+
+        // every generator gets its own arguments, parsed once
+        arguments.get(0).value("true");
+        arguments.add(new CodegenArgument().option("--other"));
+        final List<CodegenArgument> otherArguments = new JavaInflectorServerCodegen().readLanguageArguments();
+        Assert.assertEquals(otherArguments.size(), 4);
+        Assert.assertNull(otherArguments.get(0).getValue());
+        Assert.assertNotSame(otherArguments.get(0), arguments.get(0));
+    }
+
+    @Test
+    public void testRunsDoNotLeak() throws Exception {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.additionalProperties().put("configured", "true");
+        codegen.supportingFiles().add(new SupportingFile("README.mustache", "", "README.md"));
+
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Name", new StringSchema());
+        final GenerationContext run = codegen.startRun();
+        codegen.additionalProperties().put("run", "first");
+        codegen.supportingFiles().add(new SupportingFile("build.mustache", "", "build.gradle"));
+        codegen.fromModels(schemas);
+        Assert.assertEquals(run.getAdditionalProperties().get("configured"), "true");
+        Assert.assertEquals(codegen.supportingFiles().size(), 2);
+        Assert.assertEquals(codegen.getTypeAliases().get("Name"), "string");
+        codegen.endRun();
+
+        Assert.assertFalse(codegen.additionalProperties().containsKey("run"));
+        Assert.assertEquals(codegen.supportingFiles().size(), 1);
+
+        // a second specification, concurrently with a third one
+        final CompletableFuture<Map<String, Object>> other = CompletableFuture.supplyAsync(() -> {
+            codegen.startRun();
+            try {
+                codegen.additionalProperties().put("run", "third");
+                return new LinkedHashMap<>(codegen.additionalProperties());
+            } finally {
+                codegen.endRun();
+            }
+        });
+        codegen.startRun();
+        try {
+            codegen.fromModels(Collections.singletonMap("Pet", new ObjectSchema()));
+            Assert.assertNull(codegen.additionalProperties().get("run"));
+            Assert.assertEquals(codegen.supportingFiles().size(), 1);
+            Assert.assertTrue(codegen.getTypeAliases().isEmpty());
+        } finally {
+            codegen.endRun();
+        }
+        Assert.assertEquals(other.get().get("run"), "third");
+        Assert.assertEquals(other.get().get("configured"), "true");
+        Assert.assertFalse(codegen.additionalProperties().containsKey("run"));
+    }
+
+    static class P_DefaultCodegenConfig extends DefaultCodegenConfig{
         @Override
         public String getArgumentsLocation() {
             return null;
@@ -0,0 +1,87 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.CodegenProperty;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static io.swagger.codegen.handlebars.helpers.ExtensionHelper.getBooleanValue;
+
+public class FlagMapTest {
+
+    @Test
+    public void testFlagsFollowExtensions() {
+        final Map<String, Object> extensions = new HashMap<>();
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        final FlagMap flags = new FlagMap(extensions);
+        Assert.assertTrue(flags.isSet(CodegenFlag.IS_ENUM));
+
+        flags.put(CodegenConstants.HAS_MORE_EXT_NAME, "TRUE");
+        flags.put(CodegenConstants.IS_STRING_EXT_NAME, "yes");
+        flags.put(CodegenConstants.IS_LONG_EXT_NAME, null);
+        flags.put("x-custom", "value");
+        Assert.assertTrue(flags.isSet(CodegenFlag.HAS_MORE));
+        Assert.assertFalse(flags.isSet(CodegenFlag.IS_STRING));
+        Assert.assertFalse(flags.isSet(CodegenFlag.IS_LONG));
+        Assert.assertEquals(flags.get("x-custom"), "value");
+        Assert.assertEquals(flags.size(), 5);
+
+        flags.put(CodegenConstants.IS_ENUM_EXT_NAME, false);
+        Assert.assertFalse(flags.isSet(CodegenFlag.IS_ENUM));
+        flags.putIfAbsent(CodegenConstants.IS_ENUM_EXT_NAME, true);
+        Assert.assertFalse(flags.isSet(CodegenFlag.IS_ENUM));
+        flags.remove(CodegenConstants.HAS_MORE_EXT_NAME);
+        Assert.assertFalse(flags.isSet(CodegenFlag.HAS_MORE));
+        Assert.assertFalse(flags.containsKey(CodegenConstants.HAS_MORE_EXT_NAME));
+    }
+
+    @Test
+    public void testFlagsFollowEntries() {
+        final FlagMap flags = new FlagMap();
+        flags.put(CodegenConstants.IS_ENUM_EXT_NAME, false);
+        flags.put(CodegenConstants.IS_CONTAINER_EXT_NAME, true);
+
+        for (Map.Entry<String, Object> entry : flags.entrySet()) {
+            if (entry.getKey().equals(CodegenConstants.IS_ENUM_EXT_NAME)) {
+                entry.setValue(true);
+            }
+        }
+        Assert.assertTrue(flags.isSet(CodegenFlag.IS_ENUM));
+        Assert.assertEquals(flags.get(CodegenConstants.IS_ENUM_EXT_NAME), true);
+
+        final Iterator<String> keys = flags.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().equals(CodegenConstants.IS_CONTAINER_EXT_NAME)) {
+                keys.remove();
+            }
+        }
+        Assert.assertFalse(flags.isSet(CodegenFlag.IS_CONTAINER));
+        Assert.assertEquals(flags.size(), 1);
+
+        flags.clear();
+        Assert.assertFalse(flags.isSet(CodegenFlag.IS_ENUM));
+        Assert.assertTrue(flags.isEmpty());
+    }
+
+    @Test
+    public void testSameValueAsExtensionMap() {
+        final CodegenProperty legacy = new CodegenProperty();
+        final CodegenProperty property = new CodegenProperty();
+        property.vendorExtensions = new FlagMap(property.vendorExtensions);
+        final Object[] values = {true, false, "true", "True", "false", "", null, 1};
+        for (int i = 0; i < values.length; i++) {
+            final String extension = CodegenFlag.values()[i].getExtension();
+            legacy.getVendorExtensions().put(extension, values[i]);
+            property.getVendorExtensions().put(extension, values[i]);
+        }
+        Assert.assertEquals(property.getVendorExtensions(), legacy.getVendorExtensions());
+        for (CodegenFlag flag : CodegenFlag.values()) {
+            Assert.assertEquals(getBooleanValue(property, flag), getBooleanValue(legacy, flag.getExtension()), flag.name());
+            Assert.assertEquals(getBooleanValue(property, flag.getExtension()), getBooleanValue(legacy, flag.getExtension()), flag.name());
+        }
+    }
+}
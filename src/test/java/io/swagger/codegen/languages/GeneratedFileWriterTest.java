@@ -0,0 +1,67 @@
+package io.swagger.codegen.languages;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+public class GeneratedFileWriterTest {
+
+    @Test
+    public void testUnchangedFilesSkipped() throws Exception {
+        final File output = Files.createTempDirectory("output").toFile();
+        try {
+            final String filename = new File(output, "src/Pet.java").getPath();
+            final GenerationMetrics metrics = new GenerationMetrics();
+            Assert.assertTrue(new GeneratedFileWriter(false, true, metrics).write(filename, "class Pet {}"));
+            final File file = new File(filename);
+            Assert.assertTrue(file.setLastModified(1000L));
+
+            final GeneratedFileWriter writer = new GeneratedFileWriter(false, true, metrics);
+            Assert.assertFalse(writer.write(filename, "class Pet {}"));
+            Assert.assertEquals(file.lastModified(), 1000L);
+            Assert.assertTrue(writer.write(filename, "class Pet { }"));
+            Assert.assertTrue(writer.write(new File(output, "src/Tag.java").getPath(), "class Tag {}"));
+            Assert.assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "class Pet { }");
+
+            Assert.assertEquals(writer.getWrittenCount(), 2);
+            Assert.assertEquals(writer.getSkippedCount(), 1);
+            Assert.assertEquals(writer.getWrittenFiles().get(0), file);
+            Assert.assertEquals(metrics.getCounter(GenerationMetrics.FILES_WRITTEN), 3);
+            Assert.assertEquals(metrics.getCounter(GenerationMetrics.FILES_SKIPPED), 1);
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.WRITE), 4);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testWriterOfGenerator() throws Exception {
+        final File output = Files.createTempDirectory("output").toFile();
+        try {
+            final String filename = new File(output, "README.md").getPath();
+            FileUtils.write(new File(filename), "readme", StandardCharsets.UTF_8);
+
+            final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+            codegen.processOpts();
+            Assert.assertFalse(codegen.isSkipUnchangedFiles());
+            Assert.assertTrue(codegen.newFileWriter().write(filename, "readme"));
+
+            codegen.additionalProperties().put(DefaultCodegenConfig.SKIP_UNCHANGED_FILES, "true");
+            codegen.processOpts();
+            Assert.assertFalse(codegen.newFileWriter().write(filename, "readme"));
+
+            codegen.setSkipOverwrite(true);
+            final GeneratedFileWriter writer = codegen.newFileWriter();
+            Assert.assertFalse(writer.write(filename, "new readme"));
+            Assert.assertEquals(writer.getWrittenFiles(), Collections.emptyList());
+            Assert.assertEquals(FileUtils.readFileToString(new File(filename), StandardCharsets.UTF_8), "readme");
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.languages.java.JavaJerseyServerCodegen;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+public class GenerationMetricsTest {
+
+    @Test
+    public void testNestedPhaseMeasuredOnce() {
+        final GenerationMetrics metrics = new GenerationMetrics(2);
+        metrics.time(GenerationMetrics.FROM_MODEL, "Outer", () -> metrics.time(GenerationMetrics.FROM_MODEL, "Inner", () -> null));
+        try (GenerationMetrics.Timer timer = metrics.start(GenerationMetrics.RENDER, "model.mustache")) {
+            metrics.increment(GenerationMetrics.PROPERTIES, 3);
+        }
+        metrics.increment(GenerationMetrics.PROPERTIES, 2);
+        // counted by the outer phase only
+        metrics.time(GenerationMetrics.FROM_OPERATION, "Outer", () -> metrics.time(GenerationMetrics.FROM_OPERATION, "Inner",
+                () -> "inner", GenerationMetrics.PARAMETERS, result -> 10), GenerationMetrics.PARAMETERS, result -> 1);
+
+        Assert.assertEquals(metrics.getCount(GenerationMetrics.FROM_MODEL), 1);
+        Assert.assertEquals(metrics.getSlowest(GenerationMetrics.FROM_MODEL).get(0), "Outer");
+        Assert.assertEquals(metrics.getCount(GenerationMetrics.RENDER), 1);
+        Assert.assertEquals(metrics.getCounter(GenerationMetrics.PROPERTIES), 5);
+        Assert.assertEquals(metrics.getCounter(GenerationMetrics.PARAMETERS), 1);
+        Assert.assertEquals(metrics.getCount(GenerationMetrics.WRITE), 0);
+    }
+
+    @Test
+    public void testGenerationMeasured() throws Exception {
+        final OpenAPI openAPI = new SyntheticSpecBuilder().schemas(20).tags(1).operationsPerTag(3).build();
+        final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+        codegen.setGenerationMetrics(true);
+        final File output = Files.createTempDirectory("metrics").toFile();
+        codegen.setOutputDir(output.getAbsolutePath());
+        try {
+            codegen.preprocess(openAPI);
+            final Map<String, CodegenModel> models = codegen.fromModels(openAPI.getComponents().getSchemas());
+            codegen.fromOperations(openAPI);
+            codegen.processOpenAPI(openAPI);
+
+            final GenerationMetrics metrics = codegen.getGenerationMetrics();
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.PREPROCESS_OPENAPI), 1);
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.FROM_MODEL), 20);
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.FROM_OPERATION), 3);
+            Assert.assertTrue(models.keySet().containsAll(metrics.getSlowest(GenerationMetrics.FROM_MODEL)));
+            Assert.assertTrue(metrics.getCounter(GenerationMetrics.PARAMETERS) >= 9);
+            // the parents converted for their children are not counted again
+            int properties = 0;
+            for (CodegenModel model : models.values()) {
+                properties += model.vars.size();
+            }
+            Assert.assertEquals(metrics.getCounter(GenerationMetrics.PROPERTIES), properties);
+
+            final Map<?, ?> written = Json.mapper().readValue(new File(output, GenerationMetrics.FILE_NAME), Map.class);
+            final Map<?, ?> fromModel = (Map<?, ?>) ((Map<?, ?>) written.get("phases")).get(GenerationMetrics.FROM_MODEL);
+            Assert.assertEquals(((Number) fromModel.get("count")).intValue(), 20);
+            Assert.assertEquals(((List<?>) fromModel.get("slowest")).size(), 10);
+
+            // a new generation starts new measures
+            codegen.processOpts();
+            codegen.preprocess(new OpenAPI().components(new Components()));
+            Assert.assertEquals(codegen.getGenerationMetrics().getCount(GenerationMetrics.FROM_MODEL), 0);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testReusedGeneratorMeasuresEachGeneration() {
+        final OpenAPI openAPI = new SyntheticSpecBuilder().schemas(5).tags(1).operationsPerTag(2).build();
+        // the JAX-RS generators pre-process the specification without calling the pre-processing of their super class
+        final DefaultCodegenConfig codegen = new JavaJerseyServerCodegen();
+        codegen.setGenerationMetrics(true);
+        for (int generation = 0; generation < 2; generation++) {
+            codegen.processOpts();
+            codegen.preprocess(openAPI);
+            codegen.fromModels(openAPI.getComponents().getSchemas());
+            codegen.fromOperations(openAPI);
+
+            final GenerationMetrics metrics = codegen.getGenerationMetrics();
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.PREPROCESS_OPENAPI), 1);
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.FROM_MODEL), 5);
+            Assert.assertEquals(metrics.getCount(GenerationMetrics.FROM_OPERATION), 2);
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+        codegen.preprocessOpenAPI(new OpenAPI());
+        codegen.fromModel("Name", new Schema().type("string"));
+
+        Assert.assertNull(codegen.getGenerationMetrics());
+    }
+}
@@ -0,0 +1,80 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CliOption;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.languages.java.JavaClientCodegen;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.ServiceLoader;
+
+public class GeneratorRegistryTest {
+
+    @Test
+    public void testSameMetadataAsGenerators() throws Exception {
+        final GeneratorRegistry registry = new GeneratorRegistry();
+        int count = 0;
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+            final GeneratorMetadata metadata = registry.getGenerator(config.getName());
+            Assert.assertNotNull(metadata, config.getName());
+            Assert.assertEquals(metadata.getClassName(), config.getClass().getName());
+            Assert.assertEquals(metadata.getCodegenType(), config.getTag());
+            Assert.assertEquals(metadata.getHelp(), config.getHelp());
+            Assert.assertEquals(Json.mapper().writeValueAsString(metadata),
+                    Json.mapper().writeValueAsString(GeneratorMetadata.of(config)), config.getName());
+            count++;
+        }
+        Assert.assertEquals(registry.getGenerators().size(), count);
+    }
+
+    @Test
+    public void testCreateSelectedGenerator() {
+        final GeneratorRegistry registry = new GeneratorRegistry();
+        Assert.assertTrue(registry.create("java") instanceof JavaClientCodegen);
+        Assert.assertTrue(registry.create(JavaClientCodegen.class.getName()) instanceof JavaClientCodegen);
+
+        final List<CliOption> options = registry.getGenerator("java").toCliOptions();
+        final List<CliOption> expected = new JavaClientCodegen().cliOptions();
+        Assert.assertEquals(options.size(), expected.size());
+        for (int i = 0; i < options.size(); i++) {
+            Assert.assertEquals(options.get(i).getOpt(), expected.get(i).getOpt());
+            Assert.assertEquals(options.get(i).getDefault(), expected.get(i).getDefault());
+            Assert.assertEquals(options.get(i).getEnum(), expected.get(i).getEnum());
+        }
+    }
+
+    @Test
+    public void testFirstGeneratorOfNameKept() throws Exception {
+        final File services = File.createTempFile("services", ".txt");
+        services.deleteOnExit();
+        FileUtils.writeStringToFile(services, JavaClientCodegen.class.getName() + "\n" + P_JavaClientCodegen.class.getName() + "\n",
+                StandardCharsets.UTF_8);
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (GeneratorRegistry.SERVICES_LOCATION.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(services.toURI().toURL()));
+                }
+                return super.getResources(name);
+            }
+        };
+
+        final GeneratorRegistry registry = new GeneratorRegistry(classLoader);
+        Assert.assertEquals(registry.getGenerators().size(), 1);
+        Assert.assertEquals(registry.getGenerator("java").getClassName(), JavaClientCodegen.class.getName());
+        Assert.assertTrue(registry.create("java") instanceof JavaClientCodegen);
+        Assert.assertFalse(registry.create("java") instanceof P_JavaClientCodegen);
+    }
+
+    public static class P_JavaClientCodegen extends JavaClientCodegen {
+    }
+}
@@ -0,0 +1,208 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class IncrementalGenerationTest {
+
+    @Test
+    public void testOnlyChangedSchemasAndDependentsAreGenerated() throws Exception {
+        final File output = Files.createTempDirectory("incremental").toFile();
+        try {
+            final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+            codegen.setOutputDir(output.getAbsolutePath());
+            codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL_GENERATION, true);
+            codegen.processOpts();
+
+            IncrementalGeneration generation = codegen.startIncrementalGeneration(createOpenAPI("name"));
+            Assert.assertTrue(generation.isConfigurationChanged());
+            Assert.assertEquals(generation.getChangedModels(), new HashSet<>(Arrays.asList("Pet", "Category", "Order")));
+            generation.complete();
+            Assert.assertTrue(new File(output, GenerationManifest.FILENAME).isFile());
+
+            generation = codegen.startIncrementalGeneration(createOpenAPI("name"));
+            Assert.assertFalse(generation.isConfigurationChanged());
+            Assert.assertTrue(generation.getChangedModels().isEmpty());
+            Assert.assertTrue(generation.getChangedApis().isEmpty());
+
+            // Pet references Category, the pet API returns Pet
+            generation = codegen.startIncrementalGeneration(createOpenAPI("label"));
+            Assert.assertEquals(generation.getChangedModels(), new HashSet<>(Arrays.asList("Pet", "Category")));
+            Assert.assertEquals(generation.getChangedApis(), Collections.singleton("Pet"));
+            Assert.assertFalse(generation.isModelChanged("Order"));
+            Assert.assertFalse(generation.isApiChanged("Store"));
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testPropertiesOfEachGenerationIgnored() throws Exception {
+        final File output = Files.createTempDirectory("incremental").toFile();
+        try {
+            final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+            codegen.setOutputDir(output.getAbsolutePath());
+            codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL_GENERATION, true);
+            codegen.processOpts();
+
+            generate(codegen, "2018-01-01T00:00:00Z").complete();
+
+            IncrementalGeneration generation = generate(codegen, "2018-01-02T00:00:00Z");
+            Assert.assertFalse(generation.isConfigurationChanged());
+            Assert.assertTrue(generation.getChangedModels().isEmpty());
+            Assert.assertTrue(generation.getChangedApis().isEmpty());
+
+            // a declared option is part of the configuration
+            codegen.additionalProperties().put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, false);
+            generation = generate(codegen, "2018-01-03T00:00:00Z");
+            Assert.assertTrue(generation.isConfigurationChanged());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testChildrenChangeTheirParent() throws Exception {
+        final File output = Files.createTempDirectory("incremental").toFile();
+        try {
+            final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+            codegen.setOutputDir(output.getAbsolutePath());
+            codegen.modelTemplateFiles().put("model.mustache", ".java");
+            codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL_GENERATION, true);
+            codegen.processOpts();
+
+            codegen.startIncrementalGeneration(createHierarchy("meow")).complete();
+
+            // the parent lists its children
+            IncrementalGeneration generation = codegen.startIncrementalGeneration(createHierarchy("purr"));
+            Assert.assertEquals(generation.getChangedModels(), new HashSet<>(Arrays.asList("Animal", "Cat")));
+            generation.complete();
+
+            final OpenAPI withDog = createHierarchy("purr");
+            withDog.getComponents().addSchemas("Dog", new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/Animal"))
+                    .addAllOfItem(new ObjectSchema().addProperties("bark", new StringSchema())));
+            generation = codegen.startIncrementalGeneration(withDog);
+            Assert.assertTrue(generation.isModelChanged("Animal"));
+            Assert.assertTrue(generation.isModelChanged("Dog"));
+            generation.complete();
+
+            final File dog = new File(codegen.modelFileFolder(), codegen.toModelFilename("Dog") + ".java");
+            FileUtils.write(dog, "class Dog {}", StandardCharsets.UTF_8);
+            generation = codegen.startIncrementalGeneration(createHierarchy("purr"));
+            Assert.assertTrue(generation.isModelChanged("Animal"));
+            Assert.assertEquals(generation.getRemovedModels(), Collections.singleton("Dog"));
+            Assert.assertEquals(codegen.deleteRemovedFiles(generation), Collections.singletonList(dog));
+            Assert.assertFalse(dog.exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testSharedComponentsChangeTheirApis() throws Exception {
+        final File output = Files.createTempDirectory("incremental").toFile();
+        try {
+            final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+            codegen.setOutputDir(output.getAbsolutePath());
+            codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL_GENERATION, true);
+            codegen.processOpts();
+
+            codegen.startIncrementalGeneration(createSharedComponents("name", "limit")).complete();
+            Assert.assertTrue(codegen.startIncrementalGeneration(createSharedComponents("name", "limit")).getChangedApis().isEmpty());
+
+            // the operation only holds the references
+            IncrementalGeneration generation = codegen.startIncrementalGeneration(createSharedComponents("label", "limit"));
+            Assert.assertEquals(generation.getChangedApis(), Collections.singleton("Pet"));
+            generation = codegen.startIncrementalGeneration(createSharedComponents("name", "size"));
+            Assert.assertEquals(generation.getChangedApis(), Collections.singleton("Pet"));
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    private static OpenAPI createHierarchy(String catProperty) {
+        final Components components = new Components()
+                .addSchemas("Animal", new ObjectSchema().addProperties("name", new StringSchema()))
+                .addSchemas("Cat", new ComposedSchema()
+                        .addAllOfItem(new Schema().$ref("#/components/schemas/Animal"))
+                        .addAllOfItem(new ObjectSchema().addProperties(catProperty, new StringSchema())));
+        return new OpenAPI().components(components);
+    }
+
+    private static OpenAPI createSharedComponents(String bodyProperty, String parameterName) {
+        final Components components = new Components()
+                .addRequestBodies("PetBody", new RequestBody().content(new Content().addMediaType("application/json",
+                        new MediaType().schema(new ObjectSchema().addProperties(bodyProperty, new StringSchema())))))
+                .addParameters("Limit", new QueryParameter().name(parameterName).schema(new IntegerSchema()));
+        final Operation operation = new Operation().operationId("addPet").addTagsItem("pet")
+                .requestBody(new RequestBody().$ref("#/components/requestBodies/PetBody"))
+                .addParametersItem(new Parameter().$ref("#/components/parameters/Limit"))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")));
+        return new OpenAPI().components(components).paths(new Paths().addPathItem("/pets", new PathItem().post(operation)));
+    }
+
+    // a generation as run by the driver, which sets properties of its own before and during the generation
+    private static IncrementalGeneration generate(DefaultCodegenConfig codegen, String date) {
+        codegen.additionalProperties().put("generatedDate", date);
+        codegen.additionalProperties().put("generatedYear", date.substring(0, 4));
+        codegen.additionalProperties().put("inputSpec", "/tmp/spec-" + date + ".yaml");
+        codegen.additionalProperties().put("generatorVersion", "3.0.0-" + date);
+        final IncrementalGeneration generation = codegen.startIncrementalGeneration(createOpenAPI("name"));
+        codegen.additionalProperties().put("parent", Collections.singletonList(new Object()));
+        return generation;
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+        codegen.processOpts();
+        Assert.assertNull(codegen.startIncrementalGeneration(createOpenAPI("name")));
+    }
+
+    private static OpenAPI createOpenAPI(String categoryProperty) {
+        final Components components = new Components()
+                .addSchemas("Category", new ObjectSchema().addProperties(categoryProperty, new StringSchema()))
+                .addSchemas("Pet", new ObjectSchema()
+                        .addProperties("id", new IntegerSchema())
+                        .addProperties("category", new Schema().$ref("#/components/schemas/Category")))
+                .addSchemas("Order", new ObjectSchema().addProperties("id", new IntegerSchema()));
+        final Paths paths = new Paths()
+                .addPathItem("/pets", new PathItem().get(createOperation("getPets", "pet", "Pet")))
+                .addPathItem("/orders", new PathItem().get(createOperation("getOrders", "store", "Order")));
+        return new OpenAPI().components(components).paths(paths);
+    }
+
+    private static Operation createOperation(String operationId, String tag, String model) {
+        final ApiResponse response = new ApiResponse().description("OK").content(new Content()
+                .addMediaType("application/json", new MediaType().schema(new Schema().$ref("#/components/schemas/" + model))));
+        return new Operation().operationId(operationId).addTagsItem(tag)
+                .responses(new ApiResponses().addApiResponse("200", response));
+    }
+}
@@ -0,0 +1,63 @@
+package io.swagger.codegen.languages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NameCacheTest {
+
+    @Test
+    public void testMemoizesAndCounts() {
+        final NameCache cache = new NameCache();
+        final AtomicInteger calls = new AtomicInteger();
+
+        Assert.assertEquals(cache.get(NameCache.VAR_NAME, "pet_id", name -> calls.incrementAndGet() + name), "1pet_id");
+        Assert.assertEquals(cache.get(NameCache.VAR_NAME, "pet_id", name -> calls.incrementAndGet() + name), "1pet_id");
+        Assert.assertEquals(cache.get(NameCache.MODEL_NAME, "pet_id", name -> calls.incrementAndGet() + name), "2pet_id");
+
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(cache.getHits(), 1L);
+        Assert.assertEquals(cache.getMisses(), 2L);
+    }
+
+    @Test
+    public void testBoundedSize() {
+        final NameCache cache = new NameCache(2);
+        cache.get(NameCache.VAR_NAME, "a", String::toUpperCase);
+        cache.get(NameCache.VAR_NAME, "b", String::toUpperCase);
+        cache.get(NameCache.VAR_NAME, "a", String::toUpperCase);
+        cache.get(NameCache.VAR_NAME, "c", String::toUpperCase);
+
+        Assert.assertEquals(cache.size(NameCache.VAR_NAME), 2);
+        // "b" was the least recently used entry and must have been evicted
+        cache.get(NameCache.VAR_NAME, "a", String::toUpperCase);
+        Assert.assertEquals(cache.getHits(), 2L);
+        cache.get(NameCache.VAR_NAME, "b", String::toUpperCase);
+        Assert.assertEquals(cache.getMisses(), 4L);
+    }
+
+    @Test
+    public void testDisabledAndNullInput() {
+        final NameCache cache = new NameCache(0);
+        Assert.assertEquals(cache.get(NameCache.VAR_NAME, "a", String::toUpperCase), "A");
+        Assert.assertEquals(cache.size(NameCache.VAR_NAME), 0);
+
+        final NameCache enabled = new NameCache();
+        Assert.assertNull(enabled.get(NameCache.VAR_NAME, null, name -> null));
+        Assert.assertEquals(enabled.getMisses(), 0L);
+    }
+
+    @Test
+    public void testClearedWhenNamingOptionsChange() {
+        final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.getterAndSetterCapitalize("pet_name"), "PetName");
+        Assert.assertEquals(codegen.getterAndSetterCapitalize("pet_name"), "PetName");
+        Assert.assertTrue(codegen.getNameCache().getHits() > 0);
+
+        codegen.setModelNamePrefix("My");
+        Assert.assertEquals(codegen.getNameCache().size(NameCache.VAR_NAME), 0);
+    }
+}
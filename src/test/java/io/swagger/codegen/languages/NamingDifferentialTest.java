@@ -0,0 +1,230 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.languages.java.AbstractJavaCodegen;
+import io.swagger.codegen.languages.java.AbstractJavaCodegenTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the naming helpers with the regular expression based implementations they replaced.
+ */
+public class NamingDifferentialTest {
+
+    private static final List<String> NAMES = Arrays.asList("", "$", "_", "__", "-", "a", "A", "pet", "Pet",
+            "petId", "pet_id", "PET_ID", "pet-id", "pet id", "pet.id", "pet/id", "io.swagger.Pet", "io/swagger/Pet",
+            "Pet$Inner", "$ref", "$php_variable", "input[]", "input[a][b]", "input(a)(b)", "ABCdEFg", "HTTPRequest",
+            "getHTTPResponseCode", "v1.2.3", "2ndValue", "_class", "__class", "class_", "snake__case", "a_B", "a__B",
+            "_1", "x-rate-limit", "--a", "a--", "a-_b", "a_-b", "/pets/{petId}", "findPetsByStatus",
+            "application/json", "\u00fcn\u00efc\u00f6d\u00e9_n\u00e4me", "stra\u00dfe_\u00df", "\u0131i_\u0130I",
+            "name\nwith\nlines", "a_\n_b", "a_\n_B", "a\\b", "a\\\\b", "\ud801\udc28_\ud801\udc28", "tab\tname",
+            "_\u2028_x");
+
+    private static final char[] ALPHABET = ("aAbBzZiI09_-./$ []()\\\n\r\t'\"#@:,;*"
+            + "\u00e9\u00df\u0131\u0130\u017f\u212a\u00a0\u0085\u2028\u00c9\u0301\u200c\u4e2d\ud801\udc28").toCharArray();
+
+    private final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+    private final AbstractJavaCodegen javaCodegen = new AbstractJavaCodegenTest.P_AbstractJavaCodegen();
+
+    @Test
+    public void testSameOutputAsRegularExpressions() {
+        assertSameOutput(corpus(20000));
+    }
+
+    @Test
+    public void testSameOutputWithUnicodeIdentifiers() {
+        codegen.setAllowUnicodeIdentifiers(true);
+        javaCodegen.setAllowUnicodeIdentifiers(true);
+        try {
+            assertSameOutput(corpus(5000));
+        } finally {
+            codegen.setAllowUnicodeIdentifiers(false);
+            javaCodegen.setAllowUnicodeIdentifiers(false);
+        }
+    }
+
+    @Test
+    public void testSameOutputWithTurkishLocale() {
+        final Locale locale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertSameOutput(corpus(5000));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void testNoFailureOnReplacementCharacters() {
+        // the regular expression based camelize failed on these
+        Assert.assertEquals(DefaultCodegenConfig.camelize("path/$value"), "Path$value");
+        Assert.assertEquals(DefaultCodegenConfig.camelize("a-$"), "A$");
+        Assert.assertEquals(DefaultCodegenConfig.camelize("a\\"), "A");
+    }
+
+    private void assertSameOutput(List<String> names) {
+        int compared = 0;
+        for (String name : names) {
+            Assert.assertEquals(codegen.sanitizeName(name), legacySanitizeName(name, codegen.allowUnicodeIdentifiers), name);
+            Assert.assertEquals(javaCodegen.sanitizeVarName(name), legacySanitizeVarName(name, javaCodegen.allowUnicodeIdentifiers), name);
+            Assert.assertEquals(DefaultCodegenConfig.underscore(name), legacyUnderscore(name), name);
+            for (boolean lowercaseFirstLetter : new boolean[]{false, true}) {
+                if (name.contains("\\$")) {
+                    // "\$" was turned into a group reference of the regular expression
+                    continue;
+                }
+                final String expected;
+                try {
+                    expected = legacyCamelize(name, lowercaseFirstLetter);
+                } catch (RuntimeException e) {
+                    // names with "$" or "\" in unexpected places made the regular expressions fail
+                    continue;
+                }
+                Assert.assertEquals(DefaultCodegenConfig.camelize(name, lowercaseFirstLetter), expected, name);
+                compared++;
+            }
+        }
+        Assert.assertTrue(compared > names.size(), "too few names compared for camelize: " + compared);
+    }
+
+    private static List<String> corpus(int size) {
+        final List<String> names = new ArrayList<>(NAMES);
+        final Random random = new Random(42);
+        while (names.size() < size) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = 1 + random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                // mostly letters to get realistic words, with separators and unusual characters in between
+                builder.append(random.nextInt(3) == 0 ? ALPHABET[random.nextInt(ALPHABET.length)]
+                        : (char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(26)));
+            }
+            names.add(builder.toString());
+        }
+        return names;
+    }
+
+    private static String legacyUnderscore(String word) {
+        String firstPattern = "([A-Z]+)([A-Z][a-z])";
+        String secondPattern = "([a-z\\d])([A-Z])";
+        String replacementPattern = "$1_$2";
+        word = word.replaceAll("\\.", "/");
+        word = word.replaceAll("\\$", "__");
+        word = word.replaceAll(firstPattern, replacementPattern);
+        word = word.replaceAll(secondPattern, replacementPattern);
+        word = word.replace('-', '_');
+        word = word.replace(' ', '_');
+        word = word.toLowerCase();
+        return word;
+    }
+
+    private static String legacyCamelize(String word, boolean lowercaseFirstLetter) {
+        Pattern p = Pattern.compile("\\/(.?)");
+        Matcher m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1));
+            m = p.matcher(word);
+        }
+
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        m = p.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        p = Pattern.compile("(_)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(-)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = p.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+
+        return word;
+    }
+
+    private static String legacySanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        if (name == null) {
+            return Object.class.getSimpleName();
+        }
+        if ("$".equals(name)) {
+            return "value";
+        }
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_");
+        name = name.replaceAll("\\]", "");
+        name = name.replaceAll("\\(", "_");
+        name = name.replaceAll("\\)", "");
+        name = name.replaceAll("\\.", "_");
+        name = name.replaceAll("-", "_");
+        name = name.replaceAll(" ", "_");
+        if (allowUnicodeIdentifiers) {
+            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        } else {
+            name = name.replaceAll("\\W", "");
+        }
+        return name;
+    }
+
+    private static String legacySanitizeVarName(String name, boolean allowUnicodeIdentifiers) {
+        if (name == null) {
+            return Object.class.getSimpleName();
+        }
+        if ("$".equals(name)) {
+            return "value";
+        }
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_")
+                .replaceAll("\\]", "")
+                .replaceAll("\\(", "_")
+                .replaceAll("\\)", "")
+                .replaceAll("\\.", "_")
+                .replaceAll("-", "_")
+                .replaceAll(" ", "_");
+        if (allowUnicodeIdentifiers) {
+            name = Pattern.compile("\\W-[\\$]", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        } else {
+            name = name.replaceAll("\\W-[\\$]", "");
+        }
+        return name;
+    }
+}
@@ -0,0 +1,115 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SchemaIndexTest {
+
+    @Test
+    public void testRelationships() {
+        final Map<String, Schema> schemas = createSchemas();
+        final SchemaIndex index = new SchemaIndex(schemas);
+
+        Assert.assertEquals(index.getParent("Cat"), "Pet");
+        Assert.assertEquals(index.getParent("Dog"), "Pet");
+        Assert.assertNull(index.getParent("Pet"));
+        Assert.assertEquals(index.getChildren("Pet"), Arrays.asList("Cat", "Dog"));
+        Assert.assertEquals(index.getParents(), Collections.singletonList("Pet"));
+        Assert.assertEquals(index.getInterfaces("Dog"), Collections.singletonList("Named"));
+        Assert.assertEquals(index.getDiscriminatorOwners(), Collections.singleton("Pet"));
+        Assert.assertEquals(index.getReferrers("Pet"), new HashSet<>(Arrays.asList("Cat", "Dog", "Owner")));
+        Assert.assertEquals(index.getReferrers("Named"), Collections.singleton("Dog"));
+        Assert.assertEquals(index.getAliases(), Collections.singletonMap("Name", "string"));
+        Assert.assertEquals(index.getSimpleRef("#/components/schemas/Pet"), "Pet");
+        Assert.assertSame(index.getSchema("#/components/schemas/Named"), schemas.get("Named"));
+
+        final ComposedSchema dog = (ComposedSchema) schemas.get("Dog");
+        Assert.assertTrue(index.isIndexed(dog));
+        Assert.assertEquals(index.getParentName(dog), "Pet");
+        Assert.assertFalse(index.isDiscriminatorInInterfaceTree(dog));
+        Assert.assertFalse(index.isIndexed(new ComposedSchema()));
+    }
+
+    @Test
+    public void testLookupsGoThroughIndex() {
+        final Map<String, Schema> schemas = createSchemas();
+        final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+        codegen.preprocessOpenAPI(new OpenAPI().components(new Components().schemas(schemas)));
+
+        final SchemaIndex index = codegen.getSchemaIndex(schemas);
+        Assert.assertNotNull(index);
+        Assert.assertSame(codegen.getGenerationContext().getSchemaIndex(), index);
+        final ComposedSchema cat = (ComposedSchema) schemas.get("Cat");
+        Assert.assertEquals(codegen.getParentName(cat, schemas), "Pet");
+        Assert.assertSame(codegen.detectParent(cat, schemas), schemas.get("Pet"));
+        Assert.assertEquals(codegen.getTypeAliases(), Collections.singletonMap("Name", "string"));
+
+        // schemas added after the index was built, e.g. flattened inline models
+        schemas.put("Code", new StringSchema());
+        codegen.fromModel("Code", schemas.get("Code"), schemas);
+        Assert.assertEquals(codegen.getTypeAliases().get("Code"), "string");
+        Assert.assertNotSame(codegen.getSchemaIndex(schemas), index);
+
+        // no index for other schemas
+        Assert.assertNull(codegen.getSchemaIndex(new LinkedHashMap<>(schemas)));
+        Assert.assertEquals(codegen.getParentName(cat, new LinkedHashMap<>(schemas)), "Pet");
+    }
+
+    @Test
+    public void testReplacedSchemasMakeIndexStale() {
+        final Map<String, Schema> schemas = createSchemas();
+        final SchemaIndex index = new SchemaIndex(schemas);
+        Assert.assertFalse(index.isStale(schemas));
+        Assert.assertFalse(index.isStale(schemas, "Cat"));
+
+        // same number of schemas, the parent of Cat replaced
+        schemas.put("Pet", new ObjectSchema().addProperties("kind", new StringSchema()));
+        Assert.assertTrue(index.isStale(schemas));
+        Assert.assertTrue(index.isStale(schemas, "Cat"));
+        Assert.assertTrue(index.isStale(schemas, "Pet"));
+        Assert.assertFalse(index.isStale(schemas, "Owner"));
+
+        // the context of the conversions is rebuilt
+        final DefaultCodegenConfig codegen = new DefaultCodegenConfigTest.P_DefaultCodegenConfig();
+        codegen.fromModel("Owner", schemas.get("Owner"), schemas);
+        final SchemaIndex converted = codegen.getSchemaIndex(schemas);
+        schemas.put("Name", new ObjectSchema());
+        Assert.assertEquals(codegen.fromModel("Name", schemas.get("Name"), schemas).getVendorExtensions()
+                .get(CodegenConstants.IS_ALIAS_EXT_NAME), Boolean.FALSE);
+        Assert.assertNotSame(codegen.getSchemaIndex(schemas), converted);
+        Assert.assertFalse(codegen.getTypeAliases().containsKey("Name"));
+    }
+
+    private static Map<String, Schema> createSchemas() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        final Schema pet = new ObjectSchema().addProperties("petType", new StringSchema());
+        pet.setDiscriminator(new Discriminator().propertyName("petType"));
+        schemas.put("Pet", pet);
+        schemas.put("Named", new ObjectSchema().addProperties("name", new StringSchema()));
+        schemas.put("Cat", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Pet"))
+                .addAllOfItem(new ObjectSchema().addProperties("indoor", new StringSchema())));
+        schemas.put("Dog", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Pet"))
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Named")));
+        schemas.put("Owner", new ObjectSchema()
+                .addProperties("pets", new ArraySchema().items(new Schema().$ref("#/components/schemas/Pet"))));
+        schemas.put("Name", new StringSchema());
+        return schemas;
+    }
+}
@@ -0,0 +1,238 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds specifications of any size, to measure and test the generators on specifications larger than the ones of
+ * the tests. The same settings always build the same specification.
+ *
+ * Schemas are named Model0, Model1... Each schema not at the root of a hierarchy extends the previous schema through
+ * an allOf, so that hierarchies are at most {@link #allOfDepth(int)} deep. Properties are of the common types,
+ * enums, containers and references to other schemas. Each tag has its operations on paths /tagN/resourceM/{id},
+ * reading or writing one of the schemas.
+ */
+public class SyntheticSpecBuilder {
+
+    public static final String MODEL_PREFIX = "Model";
+
+    private int schemas = 100;
+    private int propertiesPerSchema = 10;
+    private int allOfDepth = 2;
+    private int enumSize = 5;
+    private int tags = 10;
+    private int operationsPerTag = 10;
+    private int parameters = 3;
+    private long seed = 42L;
+
+    /**
+     * @param schemas number of schemas of the components
+     * @return this builder
+     */
+    public SyntheticSpecBuilder schemas(int schemas) {
+        this.schemas = schemas;
+        return this;
+    }
+
+    /**
+     * @param propertiesPerSchema number of properties declared by each schema, not counting the inherited ones
+     * @return this builder
+     */
+    public SyntheticSpecBuilder propertiesPerSchema(int propertiesPerSchema) {
+        this.propertiesPerSchema = propertiesPerSchema;
+        return this;
+    }
+
+    /**
+     * @param allOfDepth number of ancestors of the deepest schemas, 0 for no composed schemas
+     * @return this builder
+     */
+    public SyntheticSpecBuilder allOfDepth(int allOfDepth) {
+        this.allOfDepth = allOfDepth;
+        return this;
+    }
+
+    /**
+     * @param enumSize number of values of the enum properties, 0 for no enums
+     * @return this builder
+     */
+    public SyntheticSpecBuilder enumSize(int enumSize) {
+        this.enumSize = enumSize;
+        return this;
+    }
+
+    /**
+     * @param tags number of tags, each tag gives one api
+     * @return this builder
+     */
+    public SyntheticSpecBuilder tags(int tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    /**
+     * @param operationsPerTag number of operations of each tag
+     * @return this builder
+     */
+    public SyntheticSpecBuilder operationsPerTag(int operationsPerTag) {
+        this.operationsPerTag = operationsPerTag;
+        return this;
+    }
+
+    /**
+     * @param parameters number of parameters of each operation: the path parameter, then query parameters
+     * @return this builder
+     */
+    public SyntheticSpecBuilder parameters(int parameters) {
+        this.parameters = parameters;
+        return this;
+    }
+
+    /**
+     * @param seed seed of the choice of the property types
+     * @return this builder
+     */
+    public SyntheticSpecBuilder seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * @return a new specification with the settings of this builder
+     */
+    public OpenAPI build() {
+        final Random random = new Random(seed);
+        final OpenAPI openAPI = new OpenAPI()
+                .info(new Info()
+                        .title("Synthetic API")
+                        .description(schemas + " schemas, " + tags * operationsPerTag + " operations")
+                        .version("1.0.0"));
+
+        final Map<String, Schema> components = new LinkedHashMap<>();
+        for (int index = 0; index < schemas; index++) {
+            components.put(MODEL_PREFIX + index, buildSchema(index, random));
+        }
+        openAPI.components(new Components().schemas(components));
+
+        final Paths paths = new Paths();
+        for (int tag = 0; tag < tags; tag++) {
+            final String tagName = "tag" + tag;
+            openAPI.addTagsItem(new Tag().name(tagName));
+            for (int operation = 0; operation < operationsPerTag; operation++) {
+                final String path = "/" + tagName + "/resource" + operation + "/{id}";
+                final String model = schemas > 0 ? MODEL_PREFIX + (tag * operationsPerTag + operation) % schemas : null;
+                final PathItem pathItem = new PathItem();
+                if (operation % 2 == 0) {
+                    pathItem.get(buildOperation("get" + tagName + "Resource" + operation, tagName, model, false));
+                } else {
+                    pathItem.put(buildOperation("update" + tagName + "Resource" + operation, tagName, model, true));
+                }
+                paths.addPathItem(path, pathItem);
+            }
+        }
+        return openAPI.paths(paths);
+    }
+
+    private Schema buildSchema(int index, Random random) {
+        final ObjectSchema properties = new ObjectSchema();
+        for (int property = 0; property < propertiesPerSchema; property++) {
+            properties.addProperties("property_" + property, buildProperty(index, property, random));
+        }
+        if (propertiesPerSchema > 0) {
+            properties.addRequiredItem("property_0");
+        }
+        if (allOfDepth > 0 && index % (allOfDepth + 1) != 0) {
+            final ComposedSchema composed = new ComposedSchema();
+            composed.addAllOfItem(reference(index - 1));
+            composed.addAllOfItem(properties);
+            return composed;
+        }
+        return properties;
+    }
+
+    private Schema buildProperty(int index, int property, Random random) {
+        switch (random.nextInt(enumSize > 0 ? 9 : 8)) {
+            case 0:
+                return new IntegerSchema().format("int64");
+            case 1:
+                return new NumberSchema();
+            case 2:
+                return new BooleanSchema();
+            case 3:
+                return new DateTimeSchema();
+            case 4:
+                return new ArraySchema().items(new StringSchema());
+            case 5:
+                return new MapSchema().additionalProperties(new IntegerSchema());
+            case 6:
+                return schemas > 1 ? reference(random.nextInt(schemas)) : new StringSchema();
+            case 7:
+                return new StringSchema().maxLength(64);
+            default:
+                final StringSchema enumSchema = new StringSchema();
+                for (int value = 0; value < enumSize; value++) {
+                    enumSchema.addEnumItem("value_" + index + "_" + property + "_" + value);
+                }
+                return enumSchema;
+        }
+    }
+
+    private Operation buildOperation(String operationId, String tag, String model, boolean write) {
+        final Operation operation = new Operation()
+                .operationId(operationId)
+                .summary(operationId)
+                .addTagsItem(tag);
+        if (parameters > 0) {
+            operation.addParametersItem(new PathParameter().name("id").schema(new IntegerSchema().format("int64")));
+        }
+        for (int parameter = 1; parameter < parameters; parameter++) {
+            operation.addParametersItem(new QueryParameter().name("filter" + parameter).schema(new StringSchema()));
+        }
+        final ApiResponses responses = new ApiResponses();
+        if (model == null) {
+            responses.addApiResponse("200", new ApiResponse().description("successful operation"));
+        } else {
+            final Content content = new Content().addMediaType("application/json", new MediaType().schema(reference(model)));
+            responses.addApiResponse("200", new ApiResponse().description("successful operation").content(content));
+            if (write) {
+                operation.requestBody(new RequestBody().required(true).content(content));
+            }
+        }
+        responses.addApiResponse("404", new ApiResponse().description("not found"));
+        return operation.responses(responses);
+    }
+
+    private static Schema reference(int index) {
+        return reference(MODEL_PREFIX + index);
+    }
+
+    private static Schema reference(String name) {
+        return new Schema().$ref("#/components/schemas/" + name);
+    }
+}
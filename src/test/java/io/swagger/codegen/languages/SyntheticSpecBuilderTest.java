@@ -0,0 +1,44 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SyntheticSpecBuilderTest {
+
+    @Test
+    public void testSameSettingsBuildSameSpec() throws Exception {
+        final String spec = Json.pretty(new SyntheticSpecBuilder().schemas(50).build());
+
+        Assert.assertEquals(Json.pretty(new SyntheticSpecBuilder().schemas(50).build()), spec);
+        Assert.assertNotEquals(Json.pretty(new SyntheticSpecBuilder().schemas(50).seed(7L).build()), spec);
+    }
+
+    @Test
+    public void testSettings() {
+        final OpenAPI openAPI = new SyntheticSpecBuilder()
+                .schemas(30)
+                .propertiesPerSchema(4)
+                .allOfDepth(2)
+                .tags(3)
+                .operationsPerTag(5)
+                .parameters(4)
+                .build();
+
+        Assert.assertEquals(openAPI.getComponents().getSchemas().size(), 30);
+        Assert.assertEquals(openAPI.getTags().size(), 3);
+        Assert.assertEquals(openAPI.getPaths().size(), 15);
+        Assert.assertEquals(openAPI.getPaths().get("/tag0/resource0/{id}").getGet().getParameters().size(), 4);
+
+        // Model0 is the root of a hierarchy of 3 schemas, Model3 of the next one
+        final Schema root = openAPI.getComponents().getSchemas().get("Model0");
+        final ComposedSchema child = (ComposedSchema) openAPI.getComponents().getSchemas().get("Model2");
+        Assert.assertFalse(root instanceof ComposedSchema);
+        Assert.assertEquals(root.getProperties().size(), 4);
+        Assert.assertEquals(child.getAllOf().get(0).get$ref(), "#/components/schemas/Model1");
+        Assert.assertFalse(openAPI.getComponents().getSchemas().get("Model3") instanceof ComposedSchema);
+    }
+}
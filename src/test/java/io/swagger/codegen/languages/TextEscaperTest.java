@@ -0,0 +1,57 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.languages.java.AbstractJavaCodegen;
+import io.swagger.codegen.languages.java.AbstractJavaCodegenTest;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Compares the single pass escaping with the escaping pipeline it replaces.
+ */
+public class TextEscaperTest {
+
+    private static final char[] ALPHABET = ("ab */\"\\\t\n\r'u0\u0000\u0001\b\f\u007f\u0080\u00e9\u2028"
+            + "\ud83d\ude00\ud800").toCharArray();
+
+    private final AbstractJavaCodegen codegen = new AbstractJavaCodegenTest.P_AbstractJavaCodegen();
+
+    @Test
+    public void testSameOutputAsPipeline() {
+        final Random random = new Random(42);
+        int escaped = 0;
+        for (int i = 0; i < 100000; i++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            final String text = builder.toString();
+            Assert.assertEquals(codegen.escapeText(text), legacyEscapeText(text), text);
+            if (TextEscaper.BLOCK_COMMENTS.escape(text) != null) {
+                escaped++;
+            }
+        }
+        Assert.assertTrue(escaped > 10000, "too few texts escaped in a single pass: " + escaped);
+    }
+
+    @Test
+    public void testUnchangedTextIsReturned() {
+        final String text = "Updates a pet in the store with form data";
+        Assert.assertSame(TextEscaper.BLOCK_COMMENTS.escape(text), text);
+        Assert.assertEquals(TextEscaper.BLOCK_COMMENTS.escape("a \"quoted\"\tword /* */"), "a \\\"quoted\\\" word /_* *_/");
+        Assert.assertNull(TextEscaper.BLOCK_COMMENTS.escape("C:\\path"));
+        Assert.assertEquals(codegen.escapeText("C:\\path"), "C:\\\\path");
+    }
+
+    private static String legacyEscapeText(String input) {
+        return StringEscapeUtils.unescapeJava(StringEscapeUtils.escapeJava(input).replace("\\/", "/"))
+                .replaceAll("[\\t\\n\\r]", " ")
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("*/", "*_/")
+                .replace("/*", "/_*");
+    }
+}
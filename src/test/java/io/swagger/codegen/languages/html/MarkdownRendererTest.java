@@ -0,0 +1,62 @@
+package io.swagger.codegen.languages.html;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MarkdownRendererTest {
+
+    @Test
+    public void testHtmlIsCachedByContent() {
+        final MarkdownRenderer renderer = new MarkdownRenderer();
+        Assert.assertEquals(renderer.toHtml(null), "");
+        Assert.assertEquals(renderer.toHtml("a **pet**"), "<p>a <strong>pet</strong></p>\n");
+        Assert.assertSame(renderer.toHtml(new String("a **pet**")), renderer.toHtml("a **pet**"));
+        Assert.assertEquals(renderer.getCacheSize(), 1);
+
+        final MarkdownRenderer bounded = new MarkdownRenderer(1);
+        bounded.toHtml("first");
+        Assert.assertEquals(bounded.toHtml("second"), "<p>second</p>\n");
+        Assert.assertEquals(bounded.getCacheSize(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTextsDropped() {
+        final MarkdownRenderer renderer = new MarkdownRenderer(100);
+        final String frequent = renderer.toHtml("a *frequent* text");
+        for (int i = 0; i < 1000; i++) {
+            renderer.toHtml("text " + i);
+            Assert.assertSame(renderer.toHtml("a *frequent* text"), frequent);
+        }
+        Assert.assertEquals(renderer.getCacheSize(), 100);
+
+        // texts converted once the cache is full are kept as well
+        final String recent = renderer.toHtml("a *recent* text");
+        Assert.assertSame(renderer.toHtml("a *recent* text"), recent);
+        Assert.assertEquals(renderer.getCacheSize(), 100);
+    }
+
+    @Test
+    public void testRendererShared() {
+        Assert.assertSame(MarkdownRenderer.getShared(), MarkdownRenderer.getShared());
+    }
+
+    @Test
+    public void testPreparedInParallel() {
+        final List<String> descriptions = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            descriptions.add(i % 3 == 0 ? null : "Description of `field" + (i % 5000) + "`, see [docs](http://example.com/" + i % 5000 + ")");
+        }
+        final MarkdownRenderer renderer = new MarkdownRenderer();
+        renderer.prepare(descriptions);
+        Assert.assertEquals(renderer.getCacheSize(), 5000);
+
+        final MarkdownRenderer sequential = new MarkdownRenderer();
+        Assert.assertEquals(descriptions.stream().map(renderer::toHtml).collect(Collectors.toList()),
+                descriptions.stream().map(sequential::toHtml).collect(Collectors.toList()));
+        Assert.assertEquals(renderer.getCacheSize(), 5000);
+    }
+}
@@ -259,4 +259,34 @@ public class JavaClientCodegenTest {
         codegen.processOpts();
         Assert.assertEquals(codegen.templateDir(), "/user/custom/location");
     }
+
+    @Test
+    public void testCopiesOfConfiguredGenerator() throws Exception {
+        final JavaClientCodegen prototype = new JavaClientCodegen();
+        prototype.additionalProperties().put(CodegenConstants.MODEL_PACKAGE, "org.example.model");
+        prototype.processOpts();
+        final int supportingFiles = prototype.supportingFiles().size();
+
+        final JavaClientCodegen copy = (JavaClientCodegen) prototype.clone();
+        Assert.assertEquals(copy.modelPackage(), "org.example.model");
+        Assert.assertEquals(copy.additionalProperties().get(CodegenConstants.MODEL_PACKAGE), "org.example.model");
+        Assert.assertEquals(copy.supportingFiles().size(), supportingFiles);
+        Assert.assertEquals(copy.typeMapping(), prototype.typeMapping());
+        Assert.assertEquals(copy.toModelName("pet_type"), "PetType");
+
+        copy.additionalProperties().put("copy", true);
+        copy.supportingFiles().clear();
+        copy.typeMapping().put("string", "CharSequence");
+        copy.reservedWords().add("custom");
+        copy.setModelPackage("org.example.other");
+
+        final JavaClientCodegen other = (JavaClientCodegen) prototype.clone();
+        Assert.assertFalse(other.additionalProperties().containsKey("copy"));
+        Assert.assertEquals(other.supportingFiles().size(), supportingFiles);
+        Assert.assertEquals(other.typeMapping().get("string"), "String");
+        Assert.assertFalse(other.reservedWords().contains("custom"));
+        Assert.assertEquals(other.modelPackage(), "org.example.model");
+        Assert.assertFalse(prototype.additionalProperties().containsKey("copy"));
+        Assert.assertEquals(prototype.supportingFiles().size(), supportingFiles);
+    }
 }
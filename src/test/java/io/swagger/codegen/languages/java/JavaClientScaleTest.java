@@ -0,0 +1,55 @@
+package io.swagger.codegen.languages.java;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.SyntheticSpecBuilder;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Generation of a Java client from a specification of 20000 schemas. Run by the scale-tests profile, which gives
+ * the tests a fixed heap (see pom.xml); the timeout of the test is the time budget.
+ */
+public class JavaClientScaleTest {
+
+    public static final String GROUP = "scale";
+
+    private static final int SCHEMAS = 20000;
+
+    @Test(groups = GROUP, timeOut = 10 * 60 * 1000)
+    public void generateLargeSpec() throws Exception {
+        final OpenAPI openAPI = new SyntheticSpecBuilder()
+                .schemas(SCHEMAS)
+                .propertiesPerSchema(10)
+                .allOfDepth(3)
+                .enumSize(10)
+                .tags(50)
+                .operationsPerTag(20)
+                .parameters(4)
+                .build();
+        final File output = Files.createTempDirectory("scale").toFile();
+        try {
+            final JavaClientCodegen config = new JavaClientCodegen();
+            config.setOutputDir(output.getAbsolutePath());
+            final ClientOptInput input = new ClientOptInput()
+                    .opts(new ClientOpts())
+                    .openAPI(openAPI)
+                    .config(config);
+
+            final List<File> files = new DefaultGenerator().opts(input).generate();
+
+            Assert.assertTrue(files.size() > SCHEMAS);
+            Assert.assertTrue(new File(output, "src/main/java/io/swagger/client/model/Model" + (SCHEMAS - 1) + ".java").exists());
+            Assert.assertTrue(new File(output, "src/main/java/io/swagger/client/api/Tag49Api.java").exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+}
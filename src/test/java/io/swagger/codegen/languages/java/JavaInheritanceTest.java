@@ -11,7 +11,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class JavaInheritanceTest {
@@ -57,4 +62,65 @@ public class JavaInheritanceTest {
         Assert.assertEquals(cm.parent, "Base");
         Assert.assertEquals(cm.imports, Sets.newHashSet("Base"));
     }
+
+    @SuppressWarnings({"static-method", "unchecked"})
+    @Test(description = "link models converted in batches like models converted all at once")
+    public void javaInheritanceInBatchesTest() {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        final Schema pet = new Schema().addProperties("name", new StringSchema());
+        pet.setDiscriminator(new Discriminator().propertyName("petType"));
+        schemas.put("Pet", pet);
+        schemas.put("Named", new Schema().addProperties("nickname", new StringSchema()));
+        schemas.put("Animal", new ComposedSchema().addAllOfItem(new Schema().$ref("#/components/schemas/Pet")));
+        for (int i = 0; i < 10; i++) {
+            schemas.put("Cat" + i, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/" + (i % 2 == 0 ? "Pet" : "Animal")))
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/Named")));
+        }
+
+        final JavaClientCodegen expectedCodegen = new JavaClientCodegen();
+        final Map<String, Object> processedModels = new LinkedHashMap<>();
+        for (Map.Entry<String, CodegenModel> entry : expectedCodegen.fromModels(schemas).entrySet()) {
+            final Map<String, Object> model = new HashMap<>();
+            model.put("model", entry.getValue());
+            processedModels.put(entry.getKey(), Collections.singletonMap("models", Collections.singletonList(model)));
+        }
+        expectedCodegen.postProcessAllModels(processedModels);
+
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        final List<Integer> batchSizes = new ArrayList<>();
+        codegen.fromModels(schemas, 5, batch -> {
+            batchSizes.add(batch.size());
+            for (Map.Entry<String, CodegenModel> entry : batch.entrySet()) {
+                final Map<String, Object> models = (Map<String, Object>) processedModels.get(entry.getKey());
+                final CodegenModel expected = (CodegenModel) ((List<Map<String, Object>>) models.get("models")).get(0).get("model");
+                final CodegenModel actual = entry.getValue();
+                // in the order of the specification rather than of a hash map
+                Assert.assertEquals(sorted(classnames(actual.children)), sorted(classnames(expected.children)), entry.getKey());
+                Assert.assertEquals(classnames(actual.interfaceModels), classnames(expected.interfaceModels), entry.getKey());
+                Assert.assertEquals(actual.parentModel == null ? null : actual.parentModel.classname,
+                        expected.parentModel == null ? null : expected.parentModel.classname, entry.getKey());
+            }
+        });
+        Assert.assertEquals(batchSizes, Arrays.asList(5, 5, 3));
+        Assert.assertEquals(codegen.additionalProperties().get("parent"), expectedCodegen.additionalProperties().get("parent"));
+    }
+
+    private static List<String> sorted(List<String> classnames) {
+        if (classnames != null) {
+            Collections.sort(classnames);
+        }
+        return classnames;
+    }
+
+    private static List<String> classnames(List<CodegenModel> models) {
+        if (models == null) {
+            return null;
+        }
+        final List<String> classnames = new ArrayList<>();
+        for (CodegenModel model : models) {
+            classnames.add(model.classname);
+        }
+        return classnames;
+    }
 }
@@ -11,9 +11,13 @@ import io.swagger.v3.oas.models.media.StringSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.swagger.codegen.CodegenConstants.IS_ENUM_EXT_NAME;
 import static io.swagger.codegen.handlebars.helpers.ExtensionHelper.getBooleanValue;
@@ -134,4 +138,45 @@ public class JavaModelEnumTest {
         Assert.assertEquals(cm.parent, "ParentModel");
         Assert.assertTrue(cm.imports.contains("ParentModel"));
     }
+
+    @Test(description = "convert a parent once for all its subtypes")
+    public void parentConvertedOnceTest() {
+        final Map<String, Schema> allModels = new LinkedHashMap<>();
+        allModels.put("Parent", new Schema().type("object")
+                .addProperties("sharedThing", new StringSchema().addEnumItem("VALUE1").addEnumItem("VALUE2")));
+        for (int i = 0; i < 50; i++) {
+            allModels.put("Child" + i, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/Parent"))
+                    .addAllOfItem(new Schema().type("object")
+                            .addProperties("unsharedThing" + i, new StringSchema().addEnumItem("SUB1").addEnumItem("SUB2"))
+                            .addProperties("sharedThing", new StringSchema().addEnumItem("VALUE1").addEnumItem("VALUE2"))));
+        }
+
+        final AtomicInteger parentConversions = new AtomicInteger();
+        final JavaClientCodegen codegen = new JavaClientCodegen() {
+            @Override
+            public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allSchemas) {
+                if (allSchemas == null) {
+                    parentConversions.incrementAndGet();
+                }
+                return super.fromModel(name, schema, allSchemas);
+            }
+        };
+        final Map<String, CodegenModel> models = codegen.fromModels(allModels);
+        Assert.assertEquals(parentConversions.get(), 1);
+
+        // same result as converting every child on its own
+        for (int i = 0; i < 50; i++) {
+            final CodegenModel expected = new JavaClientCodegen().fromModel("Child" + i, allModels.get("Child" + i), allModels);
+            Assert.assertEquals(names(models.get("Child" + i).vars), names(expected.vars));
+        }
+    }
+
+    private static List<String> names(List<CodegenProperty> properties) {
+        final List<String> names = new ArrayList<>();
+        for (CodegenProperty property : properties) {
+            names.add(property.baseName);
+        }
+        return names;
+    }
 }
@@ -0,0 +1,94 @@
+package io.swagger.codegen.languages.java;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.languages.FlagMap;
+import io.swagger.codegen.languages.SyntheticSpecBuilder;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class MultiLibraryGenerationTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLibrariesShareConversion() {
+        final OpenAPI openAPI = new SyntheticSpecBuilder().schemas(10).tags(2).operationsPerTag(2).build();
+        openAPI.getPaths().addPathItem("/pets/{pet_id}", new PathItem().get(new Operation()
+                .operationId("getPet")
+                .addTagsItem("pets")
+                .addParametersItem(new PathParameter().name("pet_id").schema(new StringSchema()))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("pet")))));
+
+        final JavaClientCodegen prototype = new JavaClientCodegen();
+        prototype.setOutputDir("out");
+        prototype.additionalProperties().put(JavaClientCodegen.LIBRARIES, "okhttp-gson, feign,jersey2,resttemplate");
+        final MultiLibraryGeneration generation = new MultiLibraryGeneration(prototype);
+        Assert.assertEquals(generation.getLibraries(), Arrays.asList("okhttp-gson", "feign", "jersey2", "resttemplate"));
+
+        final List<MultiLibraryGeneration.LibraryGeneration> libraries = generation.convert(openAPI);
+        Assert.assertEquals(libraries.size(), 4);
+        final MultiLibraryGeneration.LibraryGeneration okhttp = libraries.get(0);
+        final MultiLibraryGeneration.LibraryGeneration feign = libraries.get(1);
+        final MultiLibraryGeneration.LibraryGeneration jersey = libraries.get(2);
+        Assert.assertEquals(feign.getLibrary(), "feign");
+        Assert.assertEquals(feign.getGenerator().getOutputDir(), "out" + File.separator + "feign");
+        Assert.assertTrue(feign.getGenerator().additionalProperties().containsKey("jackson"));
+        Assert.assertTrue(okhttp.getGenerator().additionalProperties().containsKey("gson"));
+
+        // the Jackson libraries share their models, the Gson one converts its own
+        Assert.assertEquals(feign.getModels().size(), 10);
+        Assert.assertSame(feign.getModels(), jersey.getModels());
+        Assert.assertSame(libraries.get(3).getModels(), jersey.getModels());
+        Assert.assertNotSame(okhttp.getModels(), feign.getModels());
+        Assert.assertTrue(feign.getModels().get("Model0").imports.contains("JsonProperty"));
+        Assert.assertTrue(okhttp.getModels().get("Model0").imports.contains("SerializedName"));
+
+        // the shared post-processing ran once: enums, Gson parents, pruned imports
+        Assert.assertSame(feign.getModelMaps(), jersey.getModelMaps());
+        Assert.assertEquals(feign.getModelMaps().keySet(), feign.getModels().keySet());
+        Assert.assertTrue(okhttp.getGenerator().additionalProperties().containsKey("parent"));
+        for (Map<String, Object> operationMap : feign.getOperationMaps().values()) {
+            for (Map<String, String> item : (List<Map<String, String>>) operationMap.get("imports")) {
+                Assert.assertFalse(item.get("import").startsWith("java.util."));
+            }
+        }
+
+        // only feign camelizes the path variables, on its own copy of the operations
+        final CodegenOperation feignOperation = feign.getOperations().get("Pets").get(0);
+        final CodegenOperation jerseyOperation = jersey.getOperations().get("Pets").get(0);
+        Assert.assertNotSame(feignOperation, jerseyOperation);
+        Assert.assertEquals(feignOperation.path, "/pets/{petId}");
+        Assert.assertEquals(jerseyOperation.path, "/pets/{pet_id}");
+        Assert.assertEquals(jerseyOperation.operationIdCamelCase, "GetPet");
+        Assert.assertEquals(jerseyOperation.operationIdSnakeCase, "get_pet");
+        Assert.assertEquals(jersey.getOperations().keySet(), feign.getOperations().keySet());
+
+        // the copies keep the extension flags, and the parameters of each location are those of allParams
+        Assert.assertTrue(feignOperation.vendorExtensions instanceof FlagMap);
+        Assert.assertTrue(feignOperation.allParams.get(0).vendorExtensions instanceof FlagMap);
+        Assert.assertSame(feignOperation.pathParams.get(0), feignOperation.allParams.get(0));
+        for (List<CodegenOperation> operations : feign.getOperations().values()) {
+            for (CodegenOperation operation : operations) {
+                if (operation.bodyParam != null) {
+                    Assert.assertTrue(operation.allParams.stream().anyMatch(parameter -> parameter == operation.bodyParam), operation.operationId);
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testUnknownLibrary() {
+        new MultiLibraryGeneration(new JavaClientCodegen(), Arrays.asList("feign", "unknown"));
+    }
+}